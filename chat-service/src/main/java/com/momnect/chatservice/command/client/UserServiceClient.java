@@ -6,10 +6,17 @@ import com.momnect.chatservice.config.FeignClientConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 @FeignClient(name = "user-service", configuration = FeignClientConfig.class)
 public interface UserServiceClient {
 
     @GetMapping("/users/{userId}/basic")
     ApiResponse<UserBasicInfoResponse> getUserBasicInfo(@PathVariable Long userId);
+
+    // 여러 사용자 기본 정보 일괄 조회 (최대 100명)
+    @GetMapping("/users/basic")
+    ApiResponse<List<UserBasicInfoResponse>> getUserBasicInfos(@RequestParam("userIds") List<Long> userIds);
 }
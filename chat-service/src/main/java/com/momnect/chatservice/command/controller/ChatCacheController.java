@@ -0,0 +1,34 @@
+package com.momnect.chatservice.command.controller;
+
+import com.momnect.chatservice.command.service.ChatProfileCache;
+import com.momnect.chatservice.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 상품/사용자 서비스 → 채팅 서비스 캐시 무효화 (서비스 간 호출용, 캐시 삭제만 하므로 반복 호출해도 안전)
+ */
+@RestController
+@RequestMapping("/internal/cache")
+@RequiredArgsConstructor
+public class ChatCacheController {
+
+    private final ChatProfileCache chatProfileCache;
+
+    /** 상품 요약 캐시 무효화 (productIds 없으면 전체) */
+    @DeleteMapping("/products")
+    public ResponseEntity<ApiResponse<Void>> evictProducts(@RequestParam(required = false) List<Long> productIds) {
+        chatProfileCache.publishProductInvalidation(productIds);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    /** 사용자 기본 정보 캐시 무효화 (userIds 없으면 전체) */
+    @DeleteMapping("/users")
+    public ResponseEntity<ApiResponse<Void>> evictUsers(@RequestParam(required = false) List<Long> userIds) {
+        chatProfileCache.publishUserInvalidation(userIds);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+}
@@ -1,6 +1,7 @@
 package com.momnect.chatservice.command.controller;
 
 import com.momnect.chatservice.command.dto.PageResponse;
+import com.momnect.chatservice.command.dto.message.ChatMessageCursorResponse;
 import com.momnect.chatservice.command.dto.message.ChatMessageMarkReadRequest;
 import com.momnect.chatservice.command.dto.message.ChatMessageResponse;
 import com.momnect.chatservice.command.dto.message.ChatMessageSendRequest;
@@ -67,6 +68,30 @@ public class ChatMessageController {
         return ResponseEntity.ok(ApiResponse.success(body));
     }
 
+    /** 이전 메시지 조회 (커서, 최신순) - before 없으면 최신 메시지부터 */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<ChatMessageCursorResponse>> listByCursor(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "30") int size,
+            @AuthenticationPrincipal String userId
+    ) {
+        ChatMessageCursorResponse body = chatMessageService.getMessagesBefore(roomId, before, size, Long.valueOf(userId));
+        return ResponseEntity.ok(ApiResponse.success(body));
+    }
+
+    /** 재접속 동기화 - after(마지막으로 받은 메시지 id) 이후 메시지 (오래된순, 직전 몇 초는 겹쳐서 다시 전달) */
+    @GetMapping("/sync")
+    public ResponseEntity<ApiResponse<ChatMessageCursorResponse>> sync(
+            @PathVariable Long roomId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "100") int size,
+            @AuthenticationPrincipal String userId
+    ) {
+        ChatMessageCursorResponse body = chatMessageService.getMessagesAfter(roomId, after, size, Long.valueOf(userId));
+        return ResponseEntity.ok(ApiResponse.success(body));
+    }
+
     /** 읽음 처리 */
     @PostMapping("/read")
     public ResponseEntity<ApiResponse<Void>> markRead(
@@ -35,10 +35,13 @@ public class ChatRoomController {
         }
     }
 
-    /** 내가 참여한 방 목록 (최근 메시지 기준) */
+    /** 내가 참여한 방 목록 (최근 메시지 기준, 페이지당 최대 100개) */
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<List<ChatRoomSummaryResponse>>> myRooms(@AuthenticationPrincipal String userId) {
-        List<ChatRoomSummaryResponse> rooms = chatRoomService.listRoomsForUser(Long.valueOf(userId));
+    public ResponseEntity<ApiResponse<List<ChatRoomSummaryResponse>>> myRooms(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
+            @AuthenticationPrincipal String userId) {
+        List<ChatRoomSummaryResponse> rooms = chatRoomService.listRoomsForUser(Long.valueOf(userId), page, size);
         return ResponseEntity.ok(ApiResponse.success(rooms));
     }
 
@@ -0,0 +1,13 @@
+package com.momnect.chatservice.command.dto.message;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ChatMessageCursorResponse {
+    private List<ChatMessageResponse> content;  // before: 최신순, after(sync): 오래된순 (sync 는 after 직전 구간이 겹칠 수 있어 id 로 중복 제거)
+    private String nextCursor;                  // 다음 요청에 그대로 전달 (받은 마지막 메시지 id, sync 에서 새 메시지가 없으면 after)
+    private boolean hasNext;
+}
@@ -10,7 +10,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tbl_chat_participant")
+@Table(name = "tbl_chat_participant", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_chat_participant_room_user", columnNames = {"chat_room_id", "user_id"})
+}, indexes = {
+    @Index(name = "idx_chat_participant_user", columnList = "user_id")
+})
 public class ChatParticipant {
 
     @Id
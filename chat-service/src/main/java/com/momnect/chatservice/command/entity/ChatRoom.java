@@ -12,6 +12,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "tbl_chat_room", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"buyer_id", "seller_id", "product_id"})
+}, indexes = {
+    @Index(name = "idx_chat_room_buyer_product", columnList = "buyer_id, product_id")
 })
 public class ChatRoom {
 
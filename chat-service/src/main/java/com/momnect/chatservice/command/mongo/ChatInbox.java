@@ -0,0 +1,73 @@
+package com.momnect.chatservice.command.mongo;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저별 채팅방 목록(inbox) 프로젝션
+ * - (userId, roomId) 당 1건, 방 생성/메시지 전송/읽음 처리 시 갱신
+ * - 목록 화면은 user_id + last_activity_at 인덱스 한 번으로 조회
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Document(collection = "chat_inbox")
+@CompoundIndex(name = "user_activity_idx", def = "{'user_id': 1, 'last_activity_at': -1, 'room_id': -1}")
+public class ChatInbox {
+
+    @Id
+    private String id;  // "{userId}:{roomId}"
+
+    @Field("user_id")
+    private Long userId;  // 목록 주인
+
+    @Indexed(name = "room_idx")
+    @Field("room_id")
+    private Long roomId;
+
+    @Field("product_id")
+    private Long productId;
+
+    @Field("buyer_id")
+    private Long buyerId;
+
+    @Field("seller_id")
+    private Long sellerId;
+
+    @Field("counterpart_id")
+    private Long counterpartId;  // 상대방 ID
+
+    // 상품 스냅샷 (방 생성 시점, 상품 서비스 조회 실패 시 표시용)
+    @Field("product_name")
+    private String productName;
+
+    @Field("product_price")
+    private Integer productPrice;
+
+    @Field("product_thumbnail_url")
+    private String productThumbnailUrl;
+
+    @Field("trade_status")
+    private String tradeStatus;
+
+    @Field("last_message")
+    private String lastMessage;  // 마지막 메시지 미리보기
+
+    @Field("last_sent_at")
+    private LocalDateTime lastSentAt;  // 마지막 메시지 시각 (메시지 없으면 null)
+
+    @Field("last_activity_at")
+    private LocalDateTime lastActivityAt;  // 정렬 기준 (마지막 메시지 시각, 없으면 방 생성 시각)
+
+    @Field("unread_count")
+    private int unreadCount;
+
+    public static String idOf(Long userId, Long roomId) {
+        return userId + ":" + roomId;
+    }
+}
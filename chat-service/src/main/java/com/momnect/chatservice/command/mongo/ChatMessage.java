@@ -4,6 +4,7 @@ import lombok.*;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -13,7 +14,10 @@ import java.util.List;
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 @Document(collection = "chat_message")
-@CompoundIndex(name = "room_sentAt_idx", def = "{'room_id': 1, 'sent_at': -1}")
+@CompoundIndexes({
+        @CompoundIndex(name = "room_sentAt_idx", def = "{'room_id': 1, 'sent_at': -1}"),
+        @CompoundIndex(name = "room_id_idx", def = "{'room_id': 1, '_id': -1}")  // 커서 조회 (before/after)
+})
 public class ChatMessage {
 
     @Id
@@ -2,8 +2,12 @@ package com.momnect.chatservice.command.repository;
 
 import com.momnect.chatservice.command.entity.ChatParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -14,9 +18,25 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
     // 사용자의 모든 참여 방
     List<ChatParticipant> findByUserId(Long userId);
 
+    // 사용자의 참여 방 수 (inbox 누락 확인용)
+    long countByUserId(Long userId);
+
     // 특정 방에서 특정 사용자
     ChatParticipant findFirstByChatRoomIdAndUserId(Long chatRoomId, Long userId);
 
     // 안읽은 카운트 합계 등 처리용
     long countByChatRoomIdAndUnreadCountGreaterThan(Long chatRoomId, int zero);
+
+    // 발신자를 제외한 참여자 unreadCount +1 (UPDATE 한 번, 동시 전송 시에도 누락 없음)
+    @Modifying
+    @Query("UPDATE ChatParticipant p SET p.unreadCount = p.unreadCount + 1 "
+            + "WHERE p.chatRoomId = :chatRoomId AND p.userId <> :senderId")
+    int increaseUnreadCountForOpponents(@Param("chatRoomId") Long chatRoomId, @Param("senderId") Long senderId);
+
+    // 읽음 처리: unreadCount 0 + lastReadAt 갱신 (조회 후 save 하지 않아 그 사이 증가분을 덮어쓰지 않음)
+    @Modifying
+    @Query("UPDATE ChatParticipant p SET p.unreadCount = 0, p.lastReadAt = :lastReadAt "
+            + "WHERE p.chatRoomId = :chatRoomId AND p.userId = :userId")
+    int markRead(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId,
+                 @Param("lastReadAt") LocalDateTime lastReadAt);
 }
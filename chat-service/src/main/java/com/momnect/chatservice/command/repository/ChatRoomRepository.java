@@ -1,6 +1,7 @@
 package com.momnect.chatservice.command.repository;
 
 import com.momnect.chatservice.command.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -20,5 +21,8 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     ChatRoom findFirstByBuyerIdAndSellerIdAndProductId(Long buyerId, Long sellerId, Long productId);
 
     boolean existsByBuyerIdAndSellerIdAndProductId(Long buyerId, Long sellerId, Long productId);
+
+    // inbox 주기 복구용 keyset 페이지 조회 (id 오름차순)
+    List<ChatRoom> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
 }
 
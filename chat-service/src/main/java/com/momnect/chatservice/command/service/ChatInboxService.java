@@ -0,0 +1,341 @@
+package com.momnect.chatservice.command.service;
+
+import com.momnect.chatservice.command.client.dto.ProductSummaryResponse;
+import com.momnect.chatservice.command.client.dto.UserBasicInfoResponse;
+import com.momnect.chatservice.command.dto.room.ChatRoomSummaryResponse;
+import com.momnect.chatservice.command.entity.ChatParticipant;
+import com.momnect.chatservice.command.entity.ChatRoom;
+import com.momnect.chatservice.command.mongo.ChatInbox;
+import com.momnect.chatservice.command.mongo.ChatMessage;
+import com.momnect.chatservice.command.repository.ChatMessageRepository;
+import com.momnect.chatservice.command.repository.ChatParticipantRepository;
+import com.momnect.chatservice.command.repository.ChatRoomRepository;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.SetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 채팅방 목록(inbox) 관리
+ * - 방 생성/메시지 전송/읽음 처리 시 chat_inbox 를 갱신 (DB 트랜잭션 커밋 후, 실패해도 본 요청은 성공)
+ * - 목록 조회는 chat_inbox 한 번 + 페이지 단위 상품/사용자 일괄 조회 (프로필 캐시, 캐시에 없는 것만 각 1회)
+ * - chat_inbox 가 비어 있으면 기동 시 기존 방으로 한 번 채움
+ * - 갱신 실패 등으로 빠진 항목은 DB(tbl_chat_room / tbl_chat_participant) 기준으로 복구
+ *   · 메시지 전송/읽음 처리 때 대상 문서가 없으면 그 방을 다시 채움
+ *   · 주기 작업으로 전체 방을 id 순으로 훑어 inbox 문서가 빠진 방만 채움 (목록 조회 경로에서는 확인하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatInboxService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int PREVIEW_MAX_LENGTH = 100;
+    private static final int BACKFILL_BATCH_SIZE = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatParticipantRepository participantRepository;
+    private final ChatMessageRepository messageRepository;
+    private final ChatProfileCache chatProfileCache;
+
+    // =========================
+    // 갱신
+    // =========================
+    /** 방 생성: 구매자/판매자 inbox 추가 (이미 있으면 유지) */
+    public void roomCreated(ChatRoom room, ProductSummaryResponse product) {
+        afterCommit("방 생성", room.getId(), () -> {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatInbox.class);
+            for (Long userId : List.of(room.getBuyerId(), room.getSellerId())) {
+                bulk.upsert(byId(userId, room.getId()), newEntry(room, userId, product, null, 0));
+            }
+            bulk.execute();
+        });
+    }
+
+    /** 메시지 전송: 방 참여자 모두 미리보기 갱신 + 상대방 unread +1 */
+    public void messageSent(Long roomId, Long senderId, String content, LocalDateTime sentAt) {
+        afterCommit("메시지 전송", roomId, () -> {
+            // 늦게 도착한 이전 메시지로 미리보기가 되돌아가지 않도록 시각 비교는 갱신식 안에서 (필터는 방 전체)
+            AggregationExpression newer = ComparisonOperators.valueOf("last_sent_at").lessThanEqualToValue(sentAt);
+            AggregationUpdate latest = AggregationUpdate.update().set(SetOperation.builder()
+                    .set("last_message").toValue(ConditionalOperators.when(newer)
+                            .then(Objects.requireNonNullElse(preview(content), "")).otherwiseValueOf("last_message"))
+                    .and().set("last_sent_at").toValue(ConditionalOperators.when(newer)
+                            .then(sentAt).otherwiseValueOf("last_sent_at"))
+                    .and().set("last_activity_at").toValue(ConditionalOperators.when(newer)
+                            .then(sentAt).otherwiseValueOf("last_activity_at")));
+            Query room = new Query(Criteria.where("room_id").is(roomId));
+            Query opponents = new Query(Criteria.where("room_id").is(roomId).and("user_id").ne(senderId));
+
+            BulkWriteResult result = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatInbox.class)
+                    .updateMulti(room, latest)
+                    .updateMulti(opponents, new Update().inc("unread_count", 1))
+                    .execute();
+
+            // 참여자 2명 + 상대방 1명 = 3건 (순서가 뒤바뀐 전송도 문서가 있으면 매칭) → 모자라면 문서 누락 → 방 복구
+            if (result.getMatchedCount() < 3) {
+                repairRooms(List.of(roomId));
+            }
+        });
+    }
+
+    /** 읽음 처리: 내 inbox unread 0 */
+    public void read(Long roomId, Long userId) {
+        afterCommit("읽음 처리", roomId, () -> {
+            UpdateResult result = mongoTemplate.updateFirst(
+                    byId(userId, roomId), new Update().set("unread_count", 0), ChatInbox.class);
+            if (result.getMatchedCount() == 0) {
+                repairRooms(List.of(roomId));
+            }
+        });
+    }
+
+    // =========================
+    // 조회
+    // =========================
+    /** 내 채팅방 목록 (최근 활동순 페이지) */
+    public List<ChatRoomSummaryResponse> listForUser(Long userId, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page는 0 이상이어야 합니다.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        Query query = new Query(Criteria.where("user_id").is(userId))
+                .with(Sort.by(Sort.Order.desc("last_activity_at"), Sort.Order.desc("room_id")))
+                .skip((long) page * pageSize)
+                .limit(pageSize);
+        List<ChatInbox> entries = mongoTemplate.find(query, ChatInbox.class);
+        if (entries.isEmpty()) return List.of();
+
+        Map<Long, ProductSummaryResponse> products = fetchProducts(
+                entries.stream().map(ChatInbox::getProductId).distinct().toList());
+        Map<Long, UserBasicInfoResponse> users = fetchUsers(
+                entries.stream().map(ChatInbox::getCounterpartId).distinct().toList());
+
+        return entries.stream()
+                .map(e -> toSummary(e, products.get(e.getProductId()), users.get(e.getCounterpartId())))
+                .toList();
+    }
+
+    // =========================
+    // 초기 적재
+    // =========================
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (mongoTemplate.estimatedCount(ChatInbox.class) > 0) return;
+
+            long started = System.currentTimeMillis();
+            int rooms = 0;
+            Page<ChatRoom> batch;
+            int pageNo = 0;
+            do {
+                batch = chatRoomRepository.findAll(PageRequest.of(pageNo++, BACKFILL_BATCH_SIZE, Sort.by("id")));
+                if (batch.hasContent()) {
+                    backfill(batch.getContent());
+                    rooms += batch.getNumberOfElements();
+                }
+            } while (batch.hasNext());
+            log.info("채팅 inbox 초기 적재 완료 - rooms: {}, elapsed: {}ms", rooms, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            // 다음 기동 시 다시 시도
+            log.warn("채팅 inbox 초기 적재 실패", e);
+        }
+    }
+
+    // =========================
+    // 주기 복구
+    // =========================
+    /**
+     * 갱신 실패로 빠진 inbox 문서 복구 (방 id 순 keyset, 배치마다 MySQL 1회 + Mongo 1회)
+     * - 구매자/판매자 문서가 모두 있는 방은 건너뛰고, 하나라도 없는 방만 채움
+     */
+    @Scheduled(initialDelayString = "${chat.inbox.repair-interval-ms:3600000}",
+            fixedDelayString = "${chat.inbox.repair-interval-ms:3600000}")
+    public void repairMissing() {
+        long started = System.currentTimeMillis();
+        try {
+            int repaired = 0;
+            long lastId = 0L;
+            List<ChatRoom> rooms;
+            do {
+                rooms = chatRoomRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+                if (rooms.isEmpty()) break;
+                lastId = rooms.get(rooms.size() - 1).getId();
+
+                List<String> ids = new ArrayList<>(rooms.size() * 2);
+                for (ChatRoom room : rooms) {
+                    ids.add(ChatInbox.idOf(room.getBuyerId(), room.getId()));
+                    ids.add(ChatInbox.idOf(room.getSellerId(), room.getId()));
+                }
+                Set<String> indexed = new HashSet<>(mongoTemplate.findDistinct(
+                        new Query(Criteria.where("_id").in(ids)), "_id", ChatInbox.class, String.class));
+
+                List<ChatRoom> missing = rooms.stream()
+                        .filter(r -> !indexed.contains(ChatInbox.idOf(r.getBuyerId(), r.getId()))
+                                || !indexed.contains(ChatInbox.idOf(r.getSellerId(), r.getId())))
+                        .toList();
+                if (!missing.isEmpty()) {
+                    backfill(missing);
+                    repaired += missing.size();
+                }
+            } while (rooms.size() == BACKFILL_BATCH_SIZE);
+
+            if (repaired > 0) {
+                log.info("채팅 inbox 복구 완료 - rooms: {}, elapsed: {}ms", repaired, System.currentTimeMillis() - started);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            log.warn("채팅 inbox 복구 실패", e);
+        }
+    }
+
+    // ------------ internal --------------
+
+    // 방 단위 복구 (DB 기준으로 없는 문서만 추가)
+    private void repairRooms(List<Long> roomIds) {
+        for (int from = 0; from < roomIds.size(); from += BACKFILL_BATCH_SIZE) {
+            List<ChatRoom> rooms = chatRoomRepository.findAllById(
+                    roomIds.subList(from, Math.min(from + BACKFILL_BATCH_SIZE, roomIds.size())));
+            if (!rooms.isEmpty()) {
+                backfill(rooms);
+            }
+        }
+    }
+
+    private void backfill(List<ChatRoom> rooms) {
+        Map<Long, ProductSummaryResponse> products = fetchProducts(
+                rooms.stream().map(ChatRoom::getProductId).distinct().toList());
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatInbox.class);
+        for (ChatRoom room : rooms) {
+            ChatMessage last = messageRepository.findTopByRoomIdOrderBySentAtDesc(room.getId().toString());
+            Map<Long, Integer> unreadByUser = participantRepository.findByChatRoomId(room.getId()).stream()
+                    .collect(Collectors.toMap(ChatParticipant::getUserId, ChatParticipant::getUnreadCount, (a, b) -> a));
+            for (Long userId : List.of(room.getBuyerId(), room.getSellerId())) {
+                bulk.upsert(byId(userId, room.getId()), newEntry(room, userId, products.get(room.getProductId()),
+                        last, unreadByUser.getOrDefault(userId, 0)));
+            }
+        }
+        bulk.execute();
+    }
+
+    private static Query byId(Long userId, Long roomId) {
+        return new Query(Criteria.where("_id").is(ChatInbox.idOf(userId, roomId)));
+    }
+
+    // 신규 inbox 문서 (이미 있으면 아무것도 바꾸지 않음)
+    private static Update newEntry(ChatRoom room, Long userId, ProductSummaryResponse product,
+                                   ChatMessage last, int unreadCount) {
+        Long counterpartId = room.getBuyerId().equals(userId) ? room.getSellerId() : room.getBuyerId();
+        LocalDateTime lastSentAt = last != null ? last.getSentAt() : null;
+        return new Update()
+                .setOnInsert("user_id", userId)
+                .setOnInsert("room_id", room.getId())
+                .setOnInsert("product_id", room.getProductId())
+                .setOnInsert("buyer_id", room.getBuyerId())
+                .setOnInsert("seller_id", room.getSellerId())
+                .setOnInsert("counterpart_id", counterpartId)
+                .setOnInsert("product_name", product != null ? product.getName() : null)
+                .setOnInsert("product_price", product != null ? product.getPrice() : null)
+                .setOnInsert("product_thumbnail_url", product != null ? product.getThumbnailUrl() : null)
+                .setOnInsert("trade_status", product != null ? product.getTradeStatus() : null)
+                .setOnInsert("last_message", last != null ? preview(last.getContent()) : null)
+                .setOnInsert("last_sent_at", lastSentAt)
+                .setOnInsert("last_activity_at", lastSentAt != null ? lastSentAt : room.getCreatedAt())
+                .setOnInsert("unread_count", unreadCount);
+    }
+
+    private static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_MAX_LENGTH) return content;
+        return content.substring(0, PREVIEW_MAX_LENGTH);
+    }
+
+    // DB 트랜잭션 안이면 커밋 후 실행, inbox 갱신 실패는 로그만 남김
+    private void afterCommit(String action, Long roomId, Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("채팅 inbox 갱신 실패 - action: {}, roomId: {}", action, roomId, e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+
+    private Map<Long, ProductSummaryResponse> fetchProducts(List<Long> productIds) {
+        try {
+            return chatProfileCache.products(productIds);
+        } catch (Exception e) {
+            log.warn("상품 정보 일괄 조회 실패 - productIds: {}", productIds, e);
+            return Map.of();
+        }
+    }
+
+    private Map<Long, UserBasicInfoResponse> fetchUsers(List<Long> userIds) {
+        try {
+            return chatProfileCache.users(userIds);
+        } catch (Exception e) {
+            log.warn("사용자 정보 일괄 조회 실패 - userIds: {}", userIds, e);
+            return Map.of();
+        }
+    }
+
+    private ChatRoomSummaryResponse toSummary(ChatInbox e, ProductSummaryResponse product, UserBasicInfoResponse user) {
+        // 상품 정보: 실시간 조회 → 방 생성 시 스냅샷 → 기본값
+        String productName = product != null ? product.getName() : e.getProductName();
+        Integer productPrice = product != null ? product.getPrice() : e.getProductPrice();
+        String thumbnailUrl = product != null ? product.getThumbnailUrl() : e.getProductThumbnailUrl();
+        String tradeStatus = product != null ? product.getTradeStatus() : e.getTradeStatus();
+
+        return ChatRoomSummaryResponse.builder()
+                .roomId(e.getRoomId())
+                .productId(e.getProductId())
+                .productName(productName != null ? productName : "상품명 없음")
+                .productPrice(productPrice != null ? productPrice : 0)
+                .productThumbnailUrl(thumbnailUrl)
+                .tradeStatus(tradeStatus != null ? tradeStatus : "UNKNOWN")
+                .buyerId(e.getBuyerId())
+                .sellerId(e.getSellerId())
+                .lastMessage(e.getLastMessage())
+                .lastSentAt(e.getLastSentAt())
+                .unreadCount(e.getUnreadCount())
+                .otherUserId(e.getCounterpartId())
+                .otherUserNickname(user != null ? user.getNickname() : "상대방")
+                .otherUserProfileImageUrl(user != null ? user.getProfileImageUrl() : null)
+                .build();
+    }
+}
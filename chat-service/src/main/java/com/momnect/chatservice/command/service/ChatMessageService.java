@@ -1,6 +1,7 @@
 package com.momnect.chatservice.command.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momnect.chatservice.command.dto.message.ChatMessageCursorResponse;
 import com.momnect.chatservice.command.dto.message.ChatMessageMarkReadRequest;
 import com.momnect.chatservice.command.dto.message.ChatMessageResponse;
 import com.momnect.chatservice.command.dto.message.ChatMessageSendRequest;
@@ -13,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.bson.types.ObjectId;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -21,6 +23,7 @@ import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,10 +36,21 @@ public class ChatMessageService {
     private final ChatParticipantRepository participantRepository;
     private final MongoTemplate mongoTemplate;
     private final ChatRoomService chatRoomService;
+    private final ChatParticipantCache participantCache;
+    private final ChatInboxService chatInboxService;
     // private final StringRedisTemplate srt; // 임시로 Redis 의존성 제거
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    /** 커서 조회 페이지 최대 크기 */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /** 읽음 처리 시 이전 lastReadAt 보다 앞서 다시 확인하는 구간 */
+    private static final Duration READ_RESCAN_GRACE = Duration.ofMinutes(1);
+
+    /** 재접속 동기화 시 after 이전으로 다시 내려주는 구간 (ObjectId 는 인스턴스 간 초 단위로만 순서 보장) */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(2);
+
     // =========================
     // 메시지 전송 시 자동 채팅방 생성 (새로운 메서드)
     // =========================
@@ -53,7 +67,7 @@ public class ChatMessageService {
     // =========================
     // 메시지 전송 (REST에서 사용)
     // =========================
-    /** 메시지 전송 + 상대 unread 증가(Participant) + Redis 카운터/이벤트 */
+    /** 메시지 전송 + 상대 unread 증가(Participant, 단일 UPDATE) + Redis 카운터/이벤트 */
     @Transactional
     public ChatMessageResponse send(Long roomId, ChatMessageSendRequest req, Long userId) {
         // 1) Mongo 저장 (통합된 필드 구조 사용)
@@ -68,25 +82,18 @@ public class ChatMessageService {
                 .readBy(new ArrayList<>())
                 .build());
 
-        // 2) 상대 참여자 unreadCount +1 (DB)
-        List<ChatParticipant> participants = participantRepository.findByChatRoomId(roomId);
-        for (ChatParticipant p : participants) {
-            if (!p.getUserId().equals(req.getSenderId())) {
-                p.increaseUnreadCount();
-                participantRepository.save(p);
-            }
-        }
+        // 2) 상대 참여자 unreadCount +1 (DB, 단일 UPDATE)
+        participantRepository.increaseUnreadCountForOpponents(roomId, req.getSenderId());
+        chatInboxService.messageSent(roomId, req.getSenderId(), saved.getContent(), saved.getSentAt());
 
         // 3) Redis: seq 증가 & (옵션) 상대 unread 카운트도 증가 (캐시/실시간 뱃지용)
         // String seqKey = "room:" + roomId + ":seq";
         // Long seq = srt.opsForValue().increment(seqKey); // null 방지
         // if (seq == null) seq = 0L;
 
-        // for (ChatParticipant p : participants) {
-        //     if (!p.getUserId().equals(req.getSenderId())) {
-        //         String unreadKey = "room:" + roomId + ":unread:" + p.getUserId();
-        //         srt.opsForValue().increment(unreadKey);
-        //     }
+        // for (Long opponentId : participantCache.opponentsOf(roomId, req.getSenderId())) {
+        //     String unreadKey = "room:" + roomId + ":unread:" + opponentId;
+        //     srt.opsForValue().increment(unreadKey);
         // }
 
         // 4) Redis Pub/Sub: 방 채널로 이벤트 브로드캐스트 (현재 DTO 구조에 맞춤)
@@ -126,25 +133,18 @@ public class ChatMessageService {
                 .readBy(new ArrayList<>())
                 .build());
 
-        // 2) DB 참여자 unread 증가
-        List<ChatParticipant> participants = participantRepository.findByChatRoomId(roomId);
-        for (ChatParticipant p : participants) {
-            if (!p.getUserId().equals(senderId)) {
-                p.increaseUnreadCount();
-                participantRepository.save(p);
-            }
-        }
+        // 2) DB 참여자 unread 증가 (단일 UPDATE)
+        participantRepository.increaseUnreadCountForOpponents(roomId, senderId);
+        chatInboxService.messageSent(roomId, senderId, saved.getContent(), saved.getSentAt());
 
         // 3) Redis: seq 증가 + 수신자(들) unread 증가
         // String seqKey = "room:" + roomId + ":seq";
         // Long seq = srt.opsForValue().increment(seqKey);
         // if (seq == null) seq = 0L;
 
-        // for (ChatParticipant p : participants) {
-        //     if (!p.getUserId().equals(senderId)) {
-        //         String unreadKey = "room:" + roomId + ":unread:" + p.getUserId();
-        //         srt.opsForValue().increment(unreadKey);
-        //     }
+        // for (Long opponentId : participantCache.opponentsOf(roomId, senderId)) {
+        //     String unreadKey = "room:" + roomId + ":unread:" + opponentId;
+        //     srt.opsForValue().increment(unreadKey);
         // }
 
         // 4) Redis Pub/Sub (현재 WsSendMessage 구조)
@@ -177,13 +177,69 @@ public class ChatMessageService {
                 .toList();
     }
 
+    /**
+     * 이전 메시지 조회 (커서, 최신순)
+     * - before(메시지 id) 보다 오래된 메시지, 없으면 최신부터
+     * - room_id + _id 인덱스 범위 조회라 스크롤 깊이와 관계없이 비용 일정, 새 메시지가 와도 중복 없음
+     */
+    @Transactional(readOnly = true)
+    public ChatMessageCursorResponse getMessagesBefore(Long roomId, String before, int size, Long userId) {
+        if (!isParticipant(roomId, userId)) {
+            throw new IllegalArgumentException("You are not a participant of this room");
+        }
+
+        Criteria criteria = Criteria.where("room_id").is(roomId.toString());
+        if (before != null && !before.isBlank()) {
+            criteria = criteria.and("_id").lt(toObjectId(before));
+        }
+        return findByCursor(criteria, Sort.Direction.DESC, size);
+    }
+
+    /**
+     * 재접속 동기화 (커서, 오래된순)
+     * - after(마지막으로 받은 메시지 id) 이후 메시지 + after 직전 SYNC_OVERLAP 구간 메시지
+     *   · 다른 인스턴스가 같은 초에 저장한 메시지는 after 보다 작은 id 를 가질 수 있어 겹쳐서 다시 조회
+     *   · 겹친 구간은 이미 받은 메시지일 수 있으므로 클라이언트가 id 로 중복 제거
+     * - nextCursor 는 항상 지금까지 받은 마지막 id (새 메시지가 없으면 after) → 다음 호출의 after
+     */
+    @Transactional(readOnly = true)
+    public ChatMessageCursorResponse getMessagesAfter(Long roomId, String after, int size, Long userId) {
+        if (!isParticipant(roomId, userId)) {
+            throw new IllegalArgumentException("You are not a participant of this room");
+        }
+        if (after == null || after.isBlank()) {
+            throw new IllegalArgumentException("after 커서는 필수입니다.");
+        }
+
+        ObjectId afterId = toObjectId(after);
+        ChatMessageCursorResponse newer = findByCursor(
+                Criteria.where("room_id").is(roomId.toString()).and("_id").gt(afterId), Sort.Direction.ASC, size);
+
+        // after 와 같은/직전 초에 다른 인스턴스가 늦게 저장한 메시지 (페이지 크기와 별개, 진행은 newer 기준)
+        ObjectId overlapFrom = minObjectIdAt(afterId.getTimestamp() - SYNC_OVERLAP.toSeconds());
+        Query overlapQuery = new Query(Criteria.where("room_id").is(roomId.toString())
+                .and("_id").gte(overlapFrom).lt(afterId))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(MAX_CURSOR_PAGE_SIZE);
+        List<ChatMessageResponse> content = new ArrayList<>();
+        mongoTemplate.find(overlapQuery, ChatMessage.class).forEach(m -> content.add(toResponse(m)));
+        content.addAll(newer.getContent());
+
+        return ChatMessageCursorResponse.builder()
+                .content(content)
+                .nextCursor(newer.getNextCursor() != null ? newer.getNextCursor() : afterId.toHexString())
+                .hasNext(newer.isHasNext())
+                .build();
+    }
+
     // =========================
     // 읽음 처리
     // =========================
     /**
      * 읽음 처리:
-     * - 내 participant.lastReadAt 갱신 + unreadCount = 0 (DB)
-     * - Mongo: 내가 아닌 발신자의 upTo 이전 메시지 is_read=true
+     * - 내 participant.lastReadAt 갱신 + unreadCount = 0 (DB, 단일 UPDATE)
+     * - Mongo: 내가 아닌 발신자의 upTo 이전 메시지 중 아직 안 읽은 것만 read_by 에 추가 (updateMulti 한 번)
+     *   · 이전 lastReadAt 이전 메시지는 지난 읽음 처리에서 이미 반영됐으므로 (유예 시간만큼 겹쳐서) 이후 구간만 갱신
      * - Redis: lastReadSeq가 없다(엔티티에 seq 필드가 없으므로), 캐시 카운트만 0으로 리셋
      */
     @Transactional
@@ -192,28 +248,32 @@ public class ChatMessageService {
         if (!isParticipant(roomId, userId)) {
             throw new IllegalArgumentException("You are not a participant of this room");
         }
-        
+
         // 1) 내 참여자 정보 갱신 (DB)
         ChatParticipant me = participantRepository.findFirstByChatRoomIdAndUserId(roomId, req.getUserId());
         if (me == null) {
             throw new IllegalArgumentException("Participant not found in room: " + roomId + ", user: " + req.getUserId());
         }
-        me.updateLastReadAt(req.getUpTo() != null ? req.getUpTo() : LocalDateTime.now());
-        me.resetUnreadCount();
-        participantRepository.save(me);
+        LocalDateTime upTo = req.getUpTo() != null ? req.getUpTo() : LocalDateTime.now();
+        LocalDateTime previousReadAt = me.getLastReadAt();
+        participantRepository.markRead(roomId, req.getUserId(), upTo);
+        chatInboxService.read(roomId, req.getUserId());
 
-        // 3) Mongo 벌크 업데이트 (내가 보낸 메시지 제외 + upTo 이전)
+        // 3) Mongo 벌크 업데이트 (내가 보낸 메시지 제외 + upTo 이전 + 아직 안 읽은 것)
+        String reader = req.getUserId().toString();
+        Criteria sentAt = Criteria.where("sent_at").lte(upTo);
+        if (previousReadAt != null && previousReadAt.isBefore(upTo)) {
+            // 전송 시각과 저장 시점 차이로 지난번에 빠졌을 수 있는 메시지까지 포함
+            sentAt = sentAt.gt(previousReadAt.minus(READ_RESCAN_GRACE));
+        }
         Query q = new Query()
                 .addCriteria(Criteria.where("room_id").is(roomId.toString()))
-                .addCriteria(Criteria.where("sender_id").ne(req.getUserId().toString()))
-                .addCriteria(Criteria.where("sent_at").lte(req.getUpTo() != null ? req.getUpTo() : LocalDateTime.now()));
-        
+                .addCriteria(sentAt)
+                .addCriteria(Criteria.where("sender_id").ne(reader))
+                .addCriteria(Criteria.where("read_by").ne(reader));
+
         // 읽음 처리: readBy 배열에 사용자 ID 추가
-        List<ChatMessage> unreadMessages = mongoTemplate.find(q, ChatMessage.class);
-        for (ChatMessage message : unreadMessages) {
-            message.markAsRead(req.getUserId().toString());
-            messageRepository.save(message);
-        }
+        mongoTemplate.updateMulti(q, new Update().addToSet("read_by", reader), ChatMessage.class);
 
         // 4) Redis 캐시 안읽음 카운트 0으로 재설정
         // String unreadKey = "room:" + roomId + ":unread:" + req.getUserId();
@@ -243,6 +303,35 @@ public class ChatMessageService {
                 .build();
     }
 
+    // size + 1 건 조회로 다음 페이지 여부 판단, nextCursor 는 이번 페이지 마지막 id (빈 페이지면 null)
+    private ChatMessageCursorResponse findByCursor(Criteria criteria, Sort.Direction direction, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Query q = new Query(criteria)
+                .with(Sort.by(direction, "_id"))
+                .limit(limit + 1);
+        List<ChatMessage> found = mongoTemplate.find(q, ChatMessage.class);
+
+        boolean hasNext = found.size() > limit;
+        List<ChatMessage> page = hasNext ? found.subList(0, limit) : found;
+        return ChatMessageCursorResponse.builder()
+                .content(page.stream().map(this::toResponse).toList())
+                .nextCursor(page.isEmpty() ? null : page.get(page.size() - 1).getId().toHexString())
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 해당 초의 가장 작은 ObjectId (범위 하한)
+    private static ObjectId minObjectIdAt(long epochSeconds) {
+        return new ObjectId(String.format("%08x%016x", Math.max(0L, epochSeconds), 0L));
+    }
+
+    private static ObjectId toObjectId(String cursor) {
+        if (!ObjectId.isValid(cursor)) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return new ObjectId(cursor);
+    }
+
     private String toJson(Object o) {
         try {
             return objectMapper.writeValueAsString(o);
@@ -251,8 +340,8 @@ public class ChatMessageService {
         }
     }
     
-    /** 참여자 확인 */
+    /** 참여자 확인 (참여자 캐시) */
     private boolean isParticipant(Long roomId, Long userId) {
-        return participantRepository.findFirstByChatRoomIdAndUserId(roomId, userId) != null;
+        return participantCache.isParticipant(roomId, userId);
     }
 }
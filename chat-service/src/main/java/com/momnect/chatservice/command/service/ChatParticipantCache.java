@@ -0,0 +1,72 @@
+package com.momnect.chatservice.command.service;
+
+import com.momnect.chatservice.command.entity.ChatParticipant;
+import com.momnect.chatservice.command.repository.ChatParticipantRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방별 참여자 userId 캐시 (LRU)
+ * - 방은 상품별 1:1(구매자/판매자)로 생성 후 참여자가 바뀌지 않으므로 만료 없이 보관
+ * - 참여자 2명이 모두 조회된 경우에만 캐시 (방 생성 트랜잭션 커밋 전 조회 등은 다음 호출에서 다시 조회)
+ */
+@Component
+public class ChatParticipantCache {
+
+    private static final int ROOM_MEMBER_COUNT = 2;
+
+    private final ChatParticipantRepository participantRepository;
+    private final Map<Long, List<Long>> cache;
+
+    public ChatParticipantCache(ChatParticipantRepository participantRepository,
+                                @Value("${chat.participant-cache.max-size:10000}") int maxSize) {
+        this.participantRepository = participantRepository;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<Long>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 방 참여자 userId 목록 (없는 방이면 빈 목록)
+     */
+    public List<Long> userIdsOf(Long roomId) {
+        synchronized (cache) {
+            List<Long> cached = cache.get(roomId);
+            if (cached != null) return cached;
+        }
+
+        List<Long> userIds = participantRepository.findByChatRoomId(roomId).stream()
+                .map(ChatParticipant::getUserId)
+                .distinct()
+                .toList();
+        if (userIds.size() >= ROOM_MEMBER_COUNT) {
+            synchronized (cache) {
+                cache.put(roomId, userIds);
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 발신자를 제외한 참여자 userId 목록
+     */
+    public List<Long> opponentsOf(Long roomId, Long userId) {
+        return userIdsOf(roomId).stream()
+                .filter(id -> !id.equals(userId))
+                .toList();
+    }
+
+    /**
+     * 방 참여 여부
+     */
+    public boolean isParticipant(Long roomId, Long userId) {
+        return userId != null && userIdsOf(roomId).contains(userId);
+    }
+}
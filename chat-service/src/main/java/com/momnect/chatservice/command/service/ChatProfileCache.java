@@ -0,0 +1,137 @@
+package com.momnect.chatservice.command.service;
+
+import com.momnect.chatservice.command.client.ProductClient;
+import com.momnect.chatservice.command.client.UserServiceClient;
+import com.momnect.chatservice.command.client.dto.ApiResponse;
+import com.momnect.chatservice.command.client.dto.ProductSummaryResponse;
+import com.momnect.chatservice.command.client.dto.UserBasicInfoResponse;
+import com.momnect.chatservice.common.BulkLookupCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 화면용 상품 요약 / 사용자 기본 정보 로컬 캐시
+ * - 상품은 /products/summary, 사용자는 /users/basic 목록 API 로 캐시에 없는 id 만 일괄 조회
+ * - 크기 제한 + TTL, 없는 id 는 짧게 negative 캐시
+ * - 상품/사용자 서비스가 변경 시 무효화 API 호출 → Redis 채널로 모든 인스턴스에 전파
+ */
+@Slf4j
+@Component
+public class ChatProfileCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "chat:profile-cache:invalidate";
+
+    private static final String PRODUCT = "product";
+    private static final String USER = "user";
+    private static final String ALL = "*";
+    private static final int BATCH_SIZE = 100;
+
+    private final StringRedisTemplate srt;
+    private final BulkLookupCache<ProductSummaryResponse> products;
+    private final BulkLookupCache<UserBasicInfoResponse> users;
+
+    public ChatProfileCache(
+            ProductClient productClient,
+            UserServiceClient userServiceClient,
+            StringRedisTemplate srt,
+            @Value("${chat.profile-cache.max-size:20000}") int maxSize,
+            @Value("${chat.profile-cache.product-ttl-ms:60000}") long productTtlMs,
+            @Value("${chat.profile-cache.user-ttl-ms:300000}") long userTtlMs,
+            @Value("${chat.profile-cache.negative-ttl-ms:30000}") long negativeTtlMs) {
+        this.srt = srt;
+        this.products = new BulkLookupCache<>(maxSize, productTtlMs, negativeTtlMs, BATCH_SIZE, ids ->
+                toMap(productClient.getProductSummaries(ids, null), ProductSummaryResponse::getId, "상품"));
+        this.users = new BulkLookupCache<>(maxSize, userTtlMs, negativeTtlMs, BATCH_SIZE, ids ->
+                toMap(userServiceClient.getUserBasicInfos(ids), UserBasicInfoResponse::getId, "사용자"));
+    }
+
+    // =========================
+    // 조회 (원격 호출 실패 시 예외 전파)
+    // =========================
+    public Map<Long, ProductSummaryResponse> products(Collection<Long> productIds) {
+        return products.getAll(productIds);
+    }
+
+    /** 상품 요약 (없으면 null) */
+    public ProductSummaryResponse product(Long productId) {
+        return products.get(productId);
+    }
+
+    public Map<Long, UserBasicInfoResponse> users(Collection<Long> userIds) {
+        return users.getAll(userIds);
+    }
+
+    // =========================
+    // 무효화
+    // =========================
+    /** 모든 인스턴스에 상품 캐시 무효화 전파 (ids 가 비어 있으면 전체) */
+    public void publishProductInvalidation(Collection<Long> productIds) {
+        publish(PRODUCT, productIds);
+    }
+
+    /** 모든 인스턴스에 사용자 캐시 무효화 전파 (ids 가 비어 있으면 전체) */
+    public void publishUserInvalidation(Collection<Long> userIds) {
+        publish(USER, userIds);
+    }
+
+    /** Redis 채널 수신: "{product|user}:{id,id,...|*}" */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(':');
+        if (sep < 0) return;
+        apply(body.substring(0, sep), body.substring(sep + 1));
+    }
+
+    // ------------ internal --------------
+
+    private void publish(String type, Collection<Long> ids) {
+        String target = (ids == null || ids.isEmpty())
+                ? ALL
+                : ids.stream().filter(Objects::nonNull).map(String::valueOf).collect(Collectors.joining(","));
+        // 로컬은 바로 반영, 전파 실패 시 다른 인스턴스는 TTL 만료로 반영
+        apply(type, target);
+        try {
+            srt.convertAndSend(INVALIDATION_CHANNEL, type + ":" + target);
+        } catch (Exception e) {
+            log.warn("프로필 캐시 무효화 전파 실패 - type: {}, ids: {}", type, target, e);
+        }
+    }
+
+    private void apply(String type, String target) {
+        BulkLookupCache<?> cache = PRODUCT.equals(type) ? products : USER.equals(type) ? users : null;
+        if (cache == null) return;
+
+        if (ALL.equals(target)) {
+            cache.invalidateAll();
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        for (String token : target.split(",")) {
+            try {
+                ids.add(Long.valueOf(token.trim()));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 id 는 무시
+            }
+        }
+        cache.invalidate(ids);
+    }
+
+    private static <V> Map<Long, V> toMap(ApiResponse<List<V>> response, Function<V, Long> idOf, String label) {
+        if (response == null || !response.isSuccess() || response.getData() == null) {
+            throw new IllegalStateException(label + " 정보 일괄 조회에 실패했습니다.");
+        }
+        return response.getData().stream()
+                .filter(v -> idOf.apply(v) != null)
+                .collect(Collectors.toMap(idOf, Function.identity(), (a, b) -> a));
+    }
+}
@@ -0,0 +1,88 @@
+package com.momnect.chatservice.command.service;
+
+import com.momnect.chatservice.common.TtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 채팅방 find-or-create (JDBC)
+ * - (구매자, 상품) → roomId 캐시: 판매자는 상품으로 정해지므로 원격 상품 조회 전에 기존 방 확인 가능
+ * - 생성은 방 + 참여자 2명을 한 트랜잭션의 INSERT ... ON DUPLICATE KEY 로 처리
+ *   · 같은 방을 동시에 만들면 유니크 키에서 뒤 요청이 기다렸다가 기존 id 를 받음 (예외/재조회 없음)
+ *   · 서로 다른 구매자는 다른 행이라 서로 막지 않음
+ */
+@Component
+public class ChatRoomStore {
+
+    private static final String FIND_ROOM_SQL =
+            "SELECT id FROM tbl_chat_room WHERE buyer_id = ? AND product_id = ? ORDER BY id LIMIT 1";
+
+    // 이미 있으면 기존 id 를 LAST_INSERT_ID 로 돌려받음
+    private static final String UPSERT_ROOM_SQL =
+            "INSERT INTO tbl_chat_room (product_id, buyer_id, seller_id, created_at) VALUES (?, ?, ?, NOW()) "
+                    + "ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)";
+
+    private static final String UPSERT_PARTICIPANTS_SQL =
+            "INSERT INTO tbl_chat_participant (chat_room_id, user_id, unread_count, last_read_at) "
+                    + "VALUES (?, ?, 0, NOW()), (?, ?, 0, NOW()) "
+                    + "ON DUPLICATE KEY UPDATE user_id = user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TtlCache<String, Long> roomIds;
+
+    public ChatRoomStore(JdbcTemplate jdbcTemplate,
+                         @Value("${chat.room-key-cache.max-size:50000}") int maxSize,
+                         @Value("${chat.room-key-cache.ttl-ms:86400000}") long ttlMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.roomIds = new TtlCache<>(maxSize, ttlMs);
+    }
+
+    /**
+     * 구매자의 상품 채팅방 id (캐시 → DB, 없으면 null)
+     */
+    public Long findRoomId(Long buyerId, Long productId) {
+        String key = key(buyerId, productId);
+        Long cached = roomIds.get(key);
+        if (cached != null) return cached;
+
+        List<Long> found = jdbcTemplate.queryForList(FIND_ROOM_SQL, Long.class, buyerId, productId);
+        if (found.isEmpty()) return null;
+
+        roomIds.put(key, found.get(0));
+        return found.get(0);
+    }
+
+    /**
+     * 방 + 참여자 2명 생성 (이미 있으면 기존 방 id)
+     */
+    @Transactional
+    public Long upsertRoom(Long productId, Long buyerId, Long sellerId) {
+        jdbcTemplate.update(UPSERT_ROOM_SQL, productId, buyerId, sellerId);
+        Long roomId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        if (roomId == null || roomId == 0L) {
+            throw new IllegalStateException("채팅방 생성에 실패했습니다.");
+        }
+
+        jdbcTemplate.update(UPSERT_PARTICIPANTS_SQL, roomId, buyerId, roomId, sellerId);
+
+        // 롤백된 방 id 가 캐시에 남지 않도록 커밋 후 반영
+        String key = key(buyerId, productId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                roomIds.put(key, roomId);
+            }
+        });
+        return roomId;
+    }
+
+    private static String key(Long buyerId, Long productId) {
+        return buyerId + ":" + productId;
+    }
+}
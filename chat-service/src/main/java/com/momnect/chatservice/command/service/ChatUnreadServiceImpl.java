@@ -32,6 +32,8 @@ public class ChatUnreadServiceImpl implements ChatUnreadService {
     /** Fallback 계산용 */
     private final ChatParticipantRepository participantRepository;
     private final MongoTemplate mongoTemplate;
+    private final ChatParticipantCache participantCache;
+    private final ChatInboxService chatInboxService;
 
     // ======================================================
     // 조회 계열: Redis 우선 → 미스 시 Mongo로 재계산 후 Redis 세팅
@@ -107,24 +109,16 @@ public class ChatUnreadServiceImpl implements ChatUnreadService {
     // 증가 계열: Redis만 수정 (DB unreadCount는 건드리지 않음)
     // ======================================================
     @Override
-    @Transactional
     public void bumpUnreadForOpponents(Long roomId, Long senderId) {
-        // 발신자 제외
-        participantRepository.findByChatRoomId(roomId).forEach(p -> {
-            if (!p.getUserId().equals(senderId)) {
-                srt.opsForValue().increment(unreadKey(roomId, p.getUserId()));
-            }
-        });
+        // 발신자 제외, INCR 은 원자적이므로 동시 전송에도 누락 없음
+        for (Long opponentId : participantCache.opponentsOf(roomId, senderId)) {
+            srt.opsForValue().increment(unreadKey(roomId, opponentId));
+        }
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<Long> getOpponentsInRoom(Long roomId, Long senderId) {
-        return participantRepository.findByChatRoomId(roomId).stream()
-                .map(ChatParticipant::getUserId)
-                .filter(id -> !id.equals(senderId))
-                .distinct()
-                .collect(Collectors.toList());
+        return participantCache.opponentsOf(roomId, senderId);
     }
 
     // ======================================================
@@ -136,14 +130,10 @@ public class ChatUnreadServiceImpl implements ChatUnreadService {
         srt.opsForValue().set(unreadKey(roomId, userId), "0");
 
         // 2) DB: lastReadAt 갱신 (KST → UTC Instant) + (선택) unreadCount 0
-        ChatParticipant me = participantRepository.findFirstByChatRoomIdAndUserId(roomId, userId);
-        if (me != null) {
-            LocalDateTime kst = (uptoTimeKstOrNull != null) ? uptoTimeKstOrNull : LocalDateTime.now();
-            me.updateLastReadAt(kst);
-            // DB 필드를 UI에서 참고하고 있다면 혼란 방지로 0으로 맞춤 (원치 않으면 제거)
-            me.resetUnreadCount();
-            participantRepository.save(me);
-        }
+        LocalDateTime kst = (uptoTimeKstOrNull != null) ? uptoTimeKstOrNull : LocalDateTime.now();
+        // DB 필드를 UI에서 참고하고 있다면 혼란 방지로 0으로 맞춤 (단일 UPDATE, 참여자가 아니면 0건)
+        participantRepository.markRead(roomId, userId, kst);
+        chatInboxService.read(roomId, userId);
 
         // Mongo 메시지 is_read=true로 마킹하는 로직은
         // ChatMessageService.markAsRead(...) 에서 이미 처리하고 있으니 중복 방지
@@ -0,0 +1,77 @@
+package com.momnect.chatservice.common;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * id 기준 read-through 로컬 캐시 (다른 서비스 목록 API 일괄 조회용)
+ * - 캐시에 없는 id 만 모아 batchSize 단위로 loader 한 번씩 호출
+ * - loader 결과에 없는 id 는 "없음"으로 짧게 캐시 (삭제된 상품/탈퇴 사용자 반복 조회 방지)
+ * - loader 예외는 그대로 전파 (호출자가 기본값 처리), 실패한 id 는 캐시하지 않음
+ */
+public class BulkLookupCache<V> {
+
+    private final TtlCache<Long, V> values;
+    private final TtlCache<Long, Boolean> missing;
+    private final int batchSize;
+    private final Function<List<Long>, Map<Long, V>> loader;
+
+    public BulkLookupCache(int maxSize, long ttlMillis, long negativeTtlMillis, int batchSize,
+                           Function<List<Long>, Map<Long, V>> loader) {
+        this.values = new TtlCache<>(maxSize, ttlMillis);
+        this.missing = new TtlCache<>(maxSize, negativeTtlMillis);
+        this.batchSize = batchSize;
+        this.loader = loader;
+    }
+
+    /**
+     * 여러 건 조회 (없는 id 는 결과에서 제외)
+     */
+    public Map<Long, V> getAll(Collection<Long> ids) {
+        Map<Long, V> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            if (id == null) continue;
+            V cached = values.get(id);
+            if (cached != null) {
+                result.put(id, cached);
+            } else if (missing.get(id) == null) {
+                misses.add(id);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += batchSize) {
+            List<Long> chunk = misses.subList(from, Math.min(from + batchSize, misses.size()));
+            Map<Long, V> loaded = loader.apply(chunk);
+            for (Long id : chunk) {
+                V value = loaded.get(id);
+                if (value != null) {
+                    values.put(id, value);
+                    result.put(id, value);
+                } else {
+                    missing.put(id, Boolean.TRUE);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 단건 조회 (없으면 null)
+     */
+    public V get(Long id) {
+        return getAll(List.of(id)).get(id);
+    }
+
+    public void invalidate(Collection<Long> ids) {
+        for (Long id : ids) {
+            values.invalidate(id);
+            missing.invalidate(id);
+        }
+    }
+
+    public void invalidateAll() {
+        values.invalidateAll();
+        missing.invalidateAll();
+    }
+}
@@ -0,0 +1,48 @@
+package com.momnect.chatservice.common;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 생성 upsert 가 기대는 참여자 유니크 키 확인 (기동 시 1회)
+ * - 참여자 INSERT ... ON DUPLICATE KEY 는 (chat_room_id, user_id) 유니크 키가 없으면 동시 생성 시 중복 행을 만듦
+ * - ddl-auto: update 는 기존 중복 행이 있으면 키 생성에 실패하고 경고만 남기므로 여기서 기동을 중단
+ * - 복구: classpath:db/chat-participant-unique-key-migration.sql 로 중복 정리 + 키 추가 후 재기동
+ */
+@Slf4j
+@Component
+public class UniqueKeyVerifier {
+
+    private static final String FIND_INDEX_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics "
+                    + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? AND non_unique = 0";
+
+    private static final String TABLE = "tbl_chat_participant";
+    // 엔티티 @UniqueConstraint 와 같아야 함
+    private static final String UNIQUE_KEY = "uk_chat_participant_room_user";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory 주입: Hibernate 스키마 갱신이 끝난 뒤 확인하기 위함
+    public UniqueKeyVerifier(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void verify() {
+        if (!exists(UNIQUE_KEY)) {
+            throw new IllegalStateException("유니크 키가 없어 채팅방 생성 upsert 가 중복 참여자를 만듭니다: "
+                    + TABLE + "." + UNIQUE_KEY
+                    + " - db/chat-participant-unique-key-migration.sql 로 중복 정리 후 다시 기동하세요.");
+        }
+        log.info("유니크 키 확인 완료 - {}", UNIQUE_KEY);
+    }
+
+    private boolean exists(String indexName) {
+        Integer count = jdbcTemplate.queryForObject(FIND_INDEX_SQL, Integer.class, TABLE, indexName);
+        return count != null && count > 0;
+    }
+}
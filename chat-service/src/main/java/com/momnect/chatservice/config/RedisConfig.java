@@ -0,0 +1,22 @@
+package com.momnect.chatservice.config;
+
+import com.momnect.chatservice.command.service.ChatProfileCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    // 인스턴스 간 프로필 캐시 무효화 수신
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory, ChatProfileCache chatProfileCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(chatProfileCache, new ChannelTopic(ChatProfileCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
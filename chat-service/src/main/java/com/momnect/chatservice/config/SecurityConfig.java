@@ -47,6 +47,9 @@ public class SecurityConfig {
                                 // websocket 공개
                                 .requestMatchers("/ws/**").permitAll()
 
+                                // 서비스 간 캐시 무효화 (헤더 없이 호출됨, 게이트웨이에서 /internal/** 외부 요청은 차단)
+                                .requestMatchers(HttpMethod.DELETE, "/internal/cache/**").permitAll()
+
                                 // ★ 실제 API 전체 공개 (dev 용)
                                 // .requestMatchers("/**").permitAll()
 
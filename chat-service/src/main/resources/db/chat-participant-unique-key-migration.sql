@@ -0,0 +1,40 @@
+-- 채팅 참여자 (chat_room_id, user_id) 유니크 키 마이그레이션 (MySQL, 수동 실행)
+-- - 방 생성(ChatRoomStore)의 참여자 INSERT ... ON DUPLICATE KEY 는 이 유니크 키가 있어야 멱등
+-- - 유니크 키 도입 전에 쌓인 중복 행이 있으면 ddl-auto: update 가 키를 만들지 못함 → 기동 시 UniqueKeyVerifier 가 실패시킴
+-- - 중복은 가장 작은 id 를 남기고, 안 읽은 수/마지막 읽은 시각은 중복 중 큰 값으로 합침
+-- - 같은 세션에서 순서대로 실행 (임시 테이블 사용), 여러 번 실행해도 결과 동일
+
+-- =========================
+-- 1. 중복 참여자 정리
+-- =========================
+CREATE TEMPORARY TABLE tmp_participant_keep
+(
+    chat_room_id BIGINT      NOT NULL,
+    user_id      BIGINT      NOT NULL,
+    keep_id      BIGINT      NOT NULL,
+    unread_count INT         NOT NULL,
+    last_read_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (chat_room_id, user_id)
+);
+
+INSERT INTO tmp_participant_keep (chat_room_id, user_id, keep_id, unread_count, last_read_at)
+SELECT chat_room_id, user_id, MIN(id), MAX(unread_count), MAX(last_read_at)
+FROM tbl_chat_participant
+GROUP BY chat_room_id, user_id
+HAVING COUNT(*) > 1;
+
+UPDATE tbl_chat_participant p JOIN tmp_participant_keep k ON p.id = k.keep_id
+SET p.unread_count = k.unread_count,
+    p.last_read_at = k.last_read_at;
+
+DELETE p FROM tbl_chat_participant p
+    JOIN tmp_participant_keep k ON p.chat_room_id = k.chat_room_id AND p.user_id = k.user_id
+WHERE p.id <> k.keep_id;
+
+DROP TEMPORARY TABLE tmp_participant_keep;
+
+-- =========================
+-- 2. 유니크 키 추가
+-- =========================
+-- 이미 있으면 "Duplicate key name" 오류 → 무시
+ALTER TABLE tbl_chat_participant ADD CONSTRAINT uk_chat_participant_room_user UNIQUE (chat_room_id, user_id);
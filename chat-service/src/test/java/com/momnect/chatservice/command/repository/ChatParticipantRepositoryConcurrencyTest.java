@@ -0,0 +1,106 @@
+package com.momnect.chatservice.command.repository;
+
+import com.momnect.chatservice.command.entity.ChatParticipant;
+import com.momnect.chatservice.command.entity.ChatRoom;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상대방 unreadCount 동시 증가 (MySQL 컨테이너, Docker 없으면 건너뜀)
+ * - 같은 방에 N 개의 메시지가 동시에 전송돼도 unread_count 가 정확히 N 인지 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 각자 트랜잭션으로 커밋
+class ChatParticipantRepositoryConcurrencyTest {
+
+    private static final int SENDS = 50;
+    private static final int THREADS = 16;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    // 메인 클래스의 Feign/웹 설정 없이 JPA 저장소만 로딩 (Mongo 저장소 제외)
+    @Configuration
+    @EntityScan(basePackageClasses = ChatRoom.class)
+    @EnableJpaRepositories(basePackageClasses = ChatParticipantRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JpaRepository.class))
+    static class Config {
+    }
+
+    @Autowired ChatRoomRepository chatRoomRepository;
+    @Autowired ChatParticipantRepository participantRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentSendsIncreaseOpponentUnreadCountExactlyOncePerSend() throws Exception {
+        Long buyerId = 1L;
+        Long sellerId = 2L;
+        Long roomId = chatRoomRepository.save(ChatRoom.builder()
+                .productId(10L).buyerId(buyerId).sellerId(sellerId).createdAt(LocalDateTime.now())
+                .build()).getId();
+        participantRepository.saveAll(List.of(
+                participant(roomId, buyerId),
+                participant(roomId, sellerId)));
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < SENDS; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return tx.execute(status -> participantRepository.increaseUnreadCountForOpponents(roomId, buyerId));
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                // 발신자를 제외한 판매자 1행만 갱신
+                assertThat(result.get(30, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(participantRepository.findFirstByChatRoomIdAndUserId(roomId, sellerId).getUnreadCount())
+                .isEqualTo(SENDS);
+        assertThat(participantRepository.findFirstByChatRoomIdAndUserId(roomId, buyerId).getUnreadCount())
+                .isZero();
+    }
+
+    private static ChatParticipant participant(Long roomId, Long userId) {
+        return ChatParticipant.builder()
+                .chatRoomId(roomId)
+                .userId(userId)
+                .unreadCount(0)
+                .lastReadAt(LocalDateTime.now())
+                .build();
+    }
+}
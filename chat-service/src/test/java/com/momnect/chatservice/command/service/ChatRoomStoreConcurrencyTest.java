@@ -0,0 +1,184 @@
+package com.momnect.chatservice.command.service;
+
+import com.momnect.chatservice.command.entity.ChatRoom;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅방 find-or-create 동시성 + 참여자 유니크 키 마이그레이션 (MySQL 컨테이너, Docker 없으면 건너뜀)
+ * - 같은 (구매자, 상품) 동시 생성 → 방 id 하나, 참여자 정확히 2행
+ * - 다른 구매자는 앞선 트랜잭션이 끝나기를 기다리지 않음
+ * - db/chat-participant-unique-key-migration.sql 이 중복 정리 + 유니크 키 추가를 하는지
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 각자 트랜잭션으로 커밋
+class ChatRoomStoreConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final long SELLER_ID = 2L;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    // 메인 클래스의 Feign/웹 설정 없이 JPA 스키마 + ChatRoomStore 만 로딩
+    @Configuration
+    @EntityScan(basePackageClasses = ChatRoom.class)
+    @Import(ChatRoomStore.class)
+    static class Config {
+    }
+
+    @Autowired ChatRoomStore chatRoomStore;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired DataSource dataSource;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentUpsertsOfSameRoomReturnOneIdAndTwoParticipants() throws Exception {
+        long productId = 100L;
+        long buyerId = 1L;
+
+        List<Long> roomIds = runConcurrently(64, i -> chatRoomStore.upsertRoom(productId, buyerId, SELLER_ID));
+
+        assertThat(new HashSet<>(roomIds)).hasSize(1);
+        Long roomId = roomIds.get(0);
+        assertThat(count("SELECT COUNT(*) FROM tbl_chat_room WHERE buyer_id = ? AND product_id = ?", buyerId, productId))
+                .isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM tbl_chat_participant WHERE chat_room_id = ?", roomId)).isEqualTo(2);
+        assertThat(chatRoomStore.findRoomId(buyerId, productId)).isEqualTo(roomId);
+    }
+
+    @Test
+    void concurrentUpsertsOfDifferentBuyersCreateSeparateRooms() throws Exception {
+        long productId = 200L;
+        int buyers = 64;
+
+        List<Long> roomIds = runConcurrently(buyers, i -> chatRoomStore.upsertRoom(productId, 1_000L + i, SELLER_ID));
+
+        assertThat(new HashSet<>(roomIds)).hasSize(buyers);
+        assertThat(count("SELECT COUNT(*) FROM tbl_chat_room WHERE product_id = ?", productId)).isEqualTo(buyers);
+        assertThat(count("SELECT COUNT(*) FROM tbl_chat_participant p JOIN tbl_chat_room r ON r.id = p.chat_room_id "
+                + "WHERE r.product_id = ?", productId)).isEqualTo(buyers * 2);
+    }
+
+    @Test
+    void upsertOfAnotherBuyerDoesNotWaitForOpenTransaction() throws Exception {
+        long productId = 300L;
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            // 구매자 1: 방/참여자 행 잠금을 쥔 채 커밋하지 않고 대기
+            Future<Long> holder = pool.submit(() -> tx.execute(status -> {
+                Long id = chatRoomStore.upsertRoom(productId, 1L, SELLER_ID);
+                inserted.countDown();
+                await(release);
+                return id;
+            }));
+            assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 구매자 2: 같은 상품/판매자라도 다른 키라 바로 끝나야 함 (innodb_lock_wait_timeout 보다 훨씬 짧게)
+            Future<Long> other = pool.submit(() -> chatRoomStore.upsertRoom(productId, 2L, SELLER_ID));
+            Long otherId = other.get(5, TimeUnit.SECONDS);
+
+            release.countDown();
+            assertThat(holder.get(10, TimeUnit.SECONDS)).isNotEqualTo(otherId);
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void migrationRemovesDuplicateParticipantsAndAddsUniqueKey() {
+        Long roomId = chatRoomStore.upsertRoom(400L, 1L, SELLER_ID);
+
+        // 유니크 키 도입 전 스키마: 키 없음 + 중복 참여자
+        jdbcTemplate.execute("ALTER TABLE tbl_chat_participant DROP INDEX uk_chat_participant_room_user");
+        jdbcTemplate.update("INSERT INTO tbl_chat_participant (chat_room_id, user_id, unread_count, last_read_at) "
+                + "VALUES (?, 1, 5, NOW()), (?, 2, 0, NOW())", roomId, roomId);
+
+        // 수동 실행과 같이 한 세션에서 순서대로, 이미 반영된 문장의 오류는 무시
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("db/chat-participant-unique-key-migration.sql"));
+        populator.setContinueOnError(true);
+        populator.execute(dataSource);
+
+        assertThat(count("SELECT COUNT(*) FROM tbl_chat_participant WHERE chat_room_id = ?", roomId)).isEqualTo(2);
+        assertThat(count("SELECT unread_count FROM tbl_chat_participant WHERE chat_room_id = ? AND user_id = 1", roomId))
+                .isEqualTo(5);
+        assertThat(uniqueKeyCount("uk_chat_participant_room_user")).isPositive();
+    }
+
+    // ------------ internal --------------
+
+    private List<Long> runConcurrently(int calls, IntFunction<Long> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < calls; i++) {
+                int index = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.apply(index);
+                }));
+            }
+            start.countDown();
+
+            List<Long> results = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private int count(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count != null ? count : 0;
+    }
+
+    private int uniqueKeyCount(String indexName) {
+        return count("SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() "
+                + "AND table_name = 'tbl_chat_participant' AND index_name = ? AND non_unique = 0", indexName);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
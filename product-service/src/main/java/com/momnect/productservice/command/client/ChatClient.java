@@ -0,0 +1,23 @@
+package com.momnect.productservice.command.client;
+
+import com.momnect.productservice.common.ApiResponse;
+import com.momnect.productservice.config.FeignClientConfig;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@FeignClient(
+        name = "chat-service",
+        configuration = FeignClientConfig.class)
+public interface ChatClient {
+
+    /**
+     * 채팅 서비스 상품 요약 캐시 무효화
+     *
+     * @param productIds 변경된 상품 ID 목록
+     */
+    @DeleteMapping("/internal/cache/products")
+    ApiResponse<Void> evictProducts(@RequestParam("productIds") List<Long> productIds);
+}
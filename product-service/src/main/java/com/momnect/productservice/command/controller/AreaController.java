@@ -1,6 +1,7 @@
 package com.momnect.productservice.command.controller;
 
 import com.momnect.productservice.command.dto.area.AreaDto;
+import com.momnect.productservice.command.dto.area.AreaImportStatusDTO;
 import com.momnect.productservice.command.service.AreaService;
 import com.momnect.productservice.common.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -55,14 +56,24 @@ public class AreaController {
         try {
             // resources/regions.xlsx 파일 읽기
             ClassPathResource resource = new ClassPathResource("area.xlsx");
+            AreaImportStatusDTO status;
             try (InputStream is = resource.getInputStream()) {
-                areaService.loadFromExcel(is, 1L); // 1L: 시스템 유저 예시
+                status = areaService.loadFromExcel(is, 1L); // 1L: 시스템 유저 예시
             }
-            return ResponseEntity.ok("엑셀 데이터 로딩 완료!");
+            return ResponseEntity.ok("엑셀 데이터 로딩 완료! (rows: " + status.getUpsertedRows() + ")");
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.internalServerError()
                     .body("엑셀 로딩 중 오류 발생: " + e.getMessage());
         }
     }
+
+    /**
+     * API 사용 금지 (내부용)
+     * 엑셀 적재 진행 상태 조회
+     */
+    @GetMapping("/load/status")
+    public ResponseEntity<ApiResponse<AreaImportStatusDTO>> getLoadStatus() {
+        return ResponseEntity.ok(ApiResponse.success(areaService.getImportStatus()));
+    }
 }
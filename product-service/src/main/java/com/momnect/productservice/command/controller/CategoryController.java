@@ -3,6 +3,7 @@ package com.momnect.productservice.command.controller;
 import com.momnect.productservice.command.dto.product.ProductCategoryDto;
 import com.momnect.productservice.command.service.ProductCategoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,12 +18,18 @@ public class CategoryController {
 
     /**
      * 상품 카테고리 전체 트리 조회
+     * - ETag / Last-Modified 제공, If-None-Match / If-Modified-Since 가 일치하면 304 (본문 없음)
+     *   (ResponseEntity 에 담긴 ETag/Last-Modified 로 Spring MVC 가 조건부 요청 처리)
      *
      * @return 트리 구조의 카테고리 리스트
      */
     @GetMapping("/tree")
     public ResponseEntity<List<ProductCategoryDto>> getCategoryTree() {
-        return ResponseEntity.ok(categoryService.getCategoryTree());
+        return ResponseEntity.ok()
+                .eTag(categoryService.getCategoryTreeEtag())
+                .lastModified(categoryService.getCategoryTreeLastModified())
+                .cacheControl(CacheControl.noCache())
+                .body(categoryService.getCategoryTree());
     }
 
     /***
@@ -1,11 +1,15 @@
 package com.momnect.productservice.command.controller;
 
 import com.momnect.productservice.command.dto.product.*;
+import com.momnect.productservice.command.service.ProductAutocompleteService;
+import com.momnect.productservice.command.service.ProductBulkImportService;
 import com.momnect.productservice.command.service.ProductService;
 import com.momnect.productservice.common.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +24,8 @@ import java.util.Map;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductBulkImportService productBulkImportService;
+    private final ProductAutocompleteService productAutocompleteService;
 
     // 찜하기
     @PostMapping("/{productId}/wishlist")
@@ -57,16 +63,39 @@ public class ProductController {
     }
 
 
+    /***
+     * 상품 기준 유사 상품 (같은 카테고리/추천 연령대, 상품별 캐시)
+     */
+    @GetMapping("/{productId}/similar")
+    public ResponseEntity<ApiResponse<List<ProductSummaryDto>>> getSimilarProductsById(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "12") int size,
+            @AuthenticationPrincipal String userId) throws IOException {
+        List<ProductSummaryDto> similar = productService.getSimilarProductsById(productId, parseUserId(userId), size);
+        return ResponseEntity.ok(ApiResponse.success(similar));
+    }
+
     /***
      * 홈 일괄 섹션 (선택)
      */
     @GetMapping("/sections")
     public ResponseEntity<ApiResponse<ProductSectionsResponse>> getHomeProductSections(
-            @AuthenticationPrincipal String userId) {
-        ProductSectionsResponse sections = productService.getHomeProductSections(parseUserId(userId));
+            @AuthenticationPrincipal String userId,
+            @RequestParam(value = "areaIds", required = false) List<Integer> areaIds) {
+        ProductSectionsResponse sections = productService.getHomeProductSections(
+                parseUserId(userId), areaIds != null ? areaIds : List.of());
         return ResponseEntity.ok(ApiResponse.success(sections));
     }
 
+    /***
+     * 자녀 연령대 캐시 삭제 (자녀 정보 변경 시 user-service 에서 호출)
+     */
+    @DeleteMapping("/recommendations/age-buckets/me")
+    public ResponseEntity<ApiResponse<Void>> evictMyAgeBuckets(@AuthenticationPrincipal String userId) {
+        productService.evictAgeBuckets(Long.valueOf(userId));
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
     /***
      * 상품 검색/브라우즈 API (ES 기반)
      * - query 없으면 카테고리 브라우즈
@@ -82,6 +111,31 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    /***
+     * 상품 검색 API (커서 기반)
+     * - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor 를 cursor 로 전달
+     * - 스크롤이 깊어져도 조회 비용이 일정 (search_after)
+     */
+    @PostMapping("/search/cursor")
+    public ResponseEntity<ApiResponse<ProductCursorResponse>> searchProductsByCursor(
+            @RequestBody ProductSearchRequest request,
+            @AuthenticationPrincipal String userId) throws IOException {
+
+        ProductCursorResponse result = productService.searchProductsByCursor(request, parseUserId(userId));
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    /***
+     * 검색어 자동완성 (상품명/해시태그 접두어)
+     * ex) /products/autocomplete?q=유모&size=10
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<ProductAutocompleteResponse>> autocomplete(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int size) throws IOException {
+        return ResponseEntity.ok(ApiResponse.success(productAutocompleteService.autocomplete(prefix, size)));
+    }
+
     /***
      * 상품 요약 리스트 조회 API
      * ex) /products/summary?ids=1,2,3
@@ -128,6 +182,21 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    /***
+     * 상품 대량 등록 API (판매자 이전 등)
+     * - 본문은 ProductRequest 의 JSON 배열, 스트리밍으로 읽어 일정 개수씩 등록
+     * @return 등록된 상품 ID 와 실패 항목
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<ProductBulkCreateResult>> createProductsBulk(
+            HttpServletRequest request,
+            @AuthenticationPrincipal String userId) throws IOException {
+
+        ProductBulkCreateResult result =
+                productBulkImportService.importJsonArray(request.getInputStream(), Long.valueOf(userId));
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
     /**
      * @param principal 스프링 시큐리티 @AuthenticationPrincipal 값 (String)
      * @return Long userId (비로그인 또는 invalid면 null)
@@ -0,0 +1,37 @@
+package com.momnect.productservice.command.controller;
+
+import com.momnect.productservice.command.dto.index.ReindexStatusDTO;
+import com.momnect.productservice.command.service.ProductReindexService;
+import com.momnect.productservice.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/products/admin/index")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ADMIN')")
+public class ProductIndexController {
+
+    private final ProductReindexService productReindexService;
+
+    /**
+     * 상품 전체 재색인 시작 (관리자)
+     * - 새 인덱스에 색인 후 alias 교체 (무중단)
+     */
+    @PostMapping("/reindex")
+    public ResponseEntity<ApiResponse<ReindexStatusDTO>> startReindex() {
+        ReindexStatusDTO status = productReindexService.startFullReindex();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(status));
+    }
+
+    /**
+     * 마지막 재색인 진행 상태 조회 (관리자)
+     */
+    @GetMapping("/reindex")
+    public ResponseEntity<ApiResponse<ReindexStatusDTO>> getReindexStatus() {
+        return ResponseEntity.ok(ApiResponse.success(productReindexService.getStatus()));
+    }
+}
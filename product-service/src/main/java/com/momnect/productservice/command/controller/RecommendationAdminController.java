@@ -0,0 +1,38 @@
+package com.momnect.productservice.command.controller;
+
+import com.momnect.productservice.command.dto.recommendation.RecommendationWeightsDTO;
+import com.momnect.productservice.command.service.RecommendationEngine;
+import com.momnect.productservice.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/products/admin/recommendation")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ADMIN')")
+public class RecommendationAdminController {
+
+    private final RecommendationEngine recommendationEngine;
+
+    /**
+     * 추천 점수 가중치 조회 (관리자)
+     */
+    @GetMapping("/weights")
+    public ResponseEntity<ApiResponse<RecommendationWeightsDTO>> getWeights() {
+        return ResponseEntity.ok(ApiResponse.success(RecommendationWeightsDTO.from(recommendationEngine.getWeights())));
+    }
+
+    /**
+     * 추천 점수 가중치 변경 (관리자)
+     * - 이 인스턴스에만 적용, 재기동 시 설정값(product.recommendation.*)으로 돌아감
+     * - 변경 즉시 후보 풀 재계산
+     */
+    @PutMapping("/weights")
+    public ResponseEntity<ApiResponse<RecommendationWeightsDTO>> updateWeights(
+            @RequestBody RecommendationWeightsDTO request) {
+        recommendationEngine.updateWeights(request.mergeInto(recommendationEngine.getWeights()));
+        return ResponseEntity.ok(ApiResponse.success(RecommendationWeightsDTO.from(recommendationEngine.getWeights())));
+    }
+}
@@ -1,5 +1,6 @@
 package com.momnect.productservice.command.controller;
 
+import com.momnect.productservice.command.dto.product.ProductCursorResponse;
 import com.momnect.productservice.command.dto.product.ProductDetailDTO;
 import com.momnect.productservice.command.dto.product.ProductRequest;
 import com.momnect.productservice.command.dto.product.ProductSummaryDto;
@@ -78,6 +79,51 @@ public class TradeController {
         return ResponseEntity.ok(ApiResponse.success(sales));
     }
 
+    /**
+     * 내 구매 상품 커서 조회 (최근 등록순)
+     * - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor 를 cursor 로 전달
+     */
+    @GetMapping("/me/purchases/cursor")
+    public ResponseEntity<ApiResponse<ProductCursorResponse>> getMyPurchasesByCursor(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        ProductCursorResponse purchases = tradeService.getMyPurchasesByCursor(Long.valueOf(userId), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(purchases));
+    }
+
+    /**
+     * 내 판매 상품 커서 조회 (최근 등록순)
+     */
+    @GetMapping("/me/sales/cursor")
+    public ResponseEntity<ApiResponse<ProductCursorResponse>> getMySalesByCursor(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        ProductCursorResponse sales = tradeService.getMySalesByCursor(Long.valueOf(userId), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(sales));
+    }
+
+    /**
+     * 특정 유저 판매 상품 커서 조회 (최근 등록순)
+     */
+    @GetMapping("/users/{sellerId}/sales/cursor")
+    public ResponseEntity<ApiResponse<ProductCursorResponse>> getUserSalesByCursor(
+            @AuthenticationPrincipal String userId,
+            @PathVariable Long sellerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        // 로그인 안 한 경우 null 처리
+        Long loginUserId = null;
+        if (userId != null && !userId.equals("anonymousUser")) {
+            loginUserId = Long.valueOf(userId);
+        }
+
+        ProductCursorResponse sales = tradeService.getUserSalesByCursor(loginUserId, sellerId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(sales));
+    }
+
     /**
      * 상품 판매 완료 처리
      */
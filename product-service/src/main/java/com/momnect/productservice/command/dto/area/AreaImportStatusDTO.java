@@ -0,0 +1,18 @@
+package com.momnect.productservice.command.dto.area;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder(toBuilder = true)
+public class AreaImportStatusDTO {
+    private String state;           // RUNNING, COMPLETED, FAILED
+    private Long readRows;          // 읽은 데이터 행 수 (헤더 제외)
+    private Long upsertedRows;      // DB 반영한 행 수
+    private Long skippedRows;       // 코드가 비어 건너뛴 행 수
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;         // 실패 사유
+}
@@ -0,0 +1,18 @@
+package com.momnect.productservice.command.dto.index;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder(toBuilder = true)
+public class ReindexStatusDTO {
+    private String indexName;       // 새로 만든 인덱스 이름
+    private String state;           // RUNNING, COMPLETED, FAILED
+    private Long indexedCount;      // 색인한 상품 수
+    private Long failedCount;       // 색인 실패 상품 수 (409 제외)
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;         // 실패 사유
+}
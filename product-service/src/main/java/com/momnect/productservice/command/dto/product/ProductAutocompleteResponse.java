@@ -0,0 +1,13 @@
+package com.momnect.productservice.command.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ProductAutocompleteResponse {
+    private List<String> names;     // 입력으로 시작하는 단어가 포함된 상품명
+    private List<String> hashtags;  // 입력으로 시작하는 해시태그
+}
@@ -0,0 +1,23 @@
+package com.momnect.productservice.command.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ProductBulkCreateResult {
+
+    private Integer requested;           // 요청한 상품 수
+    private List<Long> createdIds;       // 등록된 상품 ID
+    private List<Failure> failures;      // 등록 실패 항목
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+        private Integer index;           // 요청 배열에서의 위치 (0부터)
+        private String message;
+    }
+}
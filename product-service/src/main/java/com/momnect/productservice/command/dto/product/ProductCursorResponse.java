@@ -0,0 +1,16 @@
+package com.momnect.productservice.command.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ProductCursorResponse {
+    private List<ProductSummaryDto> content;
+    private String nextCursor;  // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private Boolean hasNext;
+    private Integer size;
+    private ProductSearchFacets facets;  // includeFacets 요청 시 첫 페이지에만 포함
+}
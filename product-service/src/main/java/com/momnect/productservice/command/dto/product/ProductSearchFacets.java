@@ -0,0 +1,25 @@
+package com.momnect.productservice.command.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ProductSearchFacets {
+
+    private List<FacetBucket> categories;       // 카테고리 ID별 상품 수
+    private List<FacetBucket> recommendedAges;  // 추천 연령대별 상품 수
+    private List<FacetBucket> productStatuses;  // 상품 상태(NEW, USED)별 상품 수
+    private List<FacetBucket> tradeAreas;       // 거래지역 ID별 상품 수
+    private List<FacetBucket> prices;           // 가격 구간별 상품 수 (key 예: 10000-30000)
+
+    @Getter
+    @AllArgsConstructor
+    public static class FacetBucket {
+        private String key;
+        private Long count;
+    }
+}
@@ -20,5 +20,7 @@ public class ProductSearchRequest {
     private SortOption sort;                // 정렬 옵션 enum
     private Integer page;                   // 페이지 번호
     private Integer size;                   // 페이지 크기
+    private String cursor;                  // 커서 조회 시 이전 응답의 nextCursor (첫 페이지는 null)
+    private Boolean includeFacets;          // 필터별 상품 수(facets) 포함 여부 (커서 조회 첫 페이지)
 }
 
@@ -12,7 +12,7 @@ import static com.momnect.productservice.command.document.ProductDocument.toLoca
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 public class ProductSummaryDto {
 
     private Long id;
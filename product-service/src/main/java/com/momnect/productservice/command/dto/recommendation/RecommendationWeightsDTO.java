@@ -0,0 +1,42 @@
+package com.momnect.productservice.command.dto.recommendation;
+
+import com.momnect.productservice.command.service.RecommendationScorer;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendationWeightsDTO {
+    private Double recency;               // 최신성 가중치
+    private Double views;                 // 조회수 가중치
+    private Double wishlist;              // 찜 수 가중치
+    private Double recencyHalfLifeHours;  // 최신성 반감기(시간)
+    private Long viewSaturation;          // 조회수 점수가 1 이 되는 조회수
+    private Long wishlistSaturation;      // 찜 점수가 1 이 되는 찜 수
+
+    public static RecommendationWeightsDTO from(RecommendationScorer.Weights weights) {
+        return RecommendationWeightsDTO.builder()
+                .recency(weights.recency())
+                .views(weights.views())
+                .wishlist(weights.wishlist())
+                .recencyHalfLifeHours(weights.recencyHalfLifeHours())
+                .viewSaturation(weights.viewSaturation())
+                .wishlistSaturation(weights.wishlistSaturation())
+                .build();
+    }
+
+    /**
+     * 비어 있는 항목은 현재 값 유지
+     */
+    public RecommendationScorer.Weights mergeInto(RecommendationScorer.Weights current) {
+        return new RecommendationScorer.Weights(
+                recency != null ? recency : current.recency(),
+                views != null ? views : current.views(),
+                wishlist != null ? wishlist : current.wishlist(),
+                recencyHalfLifeHours != null ? recencyHalfLifeHours : current.recencyHalfLifeHours(),
+                viewSaturation != null ? viewSaturation : current.viewSaturation(),
+                wishlistSaturation != null ? wishlistSaturation : current.wishlistSaturation());
+    }
+}
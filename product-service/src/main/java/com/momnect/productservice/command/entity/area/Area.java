@@ -6,7 +6,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tbl_area")
+@Table(name = "tbl_area",
+        uniqueConstraints = @UniqueConstraint(name = "uk_area_code", columnNames = "code"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,6 +34,11 @@ public class Area {
     @Column(nullable = false)
     private AreaLevel level;
 
+    // 대표 좌표 (WGS84, 엑셀 적재 시 있으면 반영)
+    private Double latitude;
+
+    private Double longitude;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
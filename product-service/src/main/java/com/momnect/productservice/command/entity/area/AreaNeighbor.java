@@ -0,0 +1,24 @@
+package com.momnect.productservice.command.entity.area;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 읍면동 이웃 목록 (좌표 기준 반경 내 가까운 순 최대 N 개, 지역 적재 시 다시 계산)
+ * - 검색 반경 확장은 이 표를 메모리에 올려 조회 (요청마다 거리 계산하지 않음)
+ */
+@Entity
+@Table(name = "tbl_area_neighbor")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AreaNeighbor {
+
+    @EmbeddedId
+    private AreaNeighborId id; // area_id + neighbor_id 복합키
+
+    // 두 지역 대표 좌표 사이 거리(m)
+    @Column(nullable = false)
+    private Integer distanceM;
+}
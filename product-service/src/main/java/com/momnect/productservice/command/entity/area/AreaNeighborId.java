@@ -0,0 +1,19 @@
+package com.momnect.productservice.command.entity.area;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AreaNeighborId implements Serializable {
+    private Integer areaId;
+    private Integer neighborId;
+}
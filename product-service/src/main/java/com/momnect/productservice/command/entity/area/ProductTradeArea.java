@@ -18,6 +18,9 @@ public class ProductTradeArea  {
     @EmbeddedId
     private ProductTradeAreaId id; // product_id + area_id 복합키
 
+    // 등록 요청 순서 (1부터, 이전 데이터는 null → area_id 순), 첫 거래지역 = 대표 동네
+    private Integer sortOrder;
+
     // Product와 ManyToOne 관계
     @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("productId") // 복합키의 productId와 매핑
@@ -4,7 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "tbl_hashtag")
+@Table(name = "tbl_hashtag",
+        uniqueConstraints = @UniqueConstraint(name = "uk_hashtag_name", columnNames = "name"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
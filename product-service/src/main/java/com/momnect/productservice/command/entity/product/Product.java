@@ -12,7 +12,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tbl_product")
+@Table(name = "tbl_product", indexes = {
+        // 판매 목록 keyset (seller_id, is_deleted, created_at desc, id desc)
+        @Index(name = "idx_product_seller_deleted_created", columnList = "sellerId, isDeleted, createdAt"),
+        // 구매 목록 keyset (buyer_id, trade_status, created_at desc, id desc)
+        @Index(name = "idx_product_buyer_status_created", columnList = "buyerId, tradeStatus, createdAt")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -61,7 +66,9 @@ public class Product {
     @Builder.Default
     private List<ProductHashtag> productHashtags = new ArrayList<>();
 
+    // 첫 번째가 대표 동네 (TradeListingReader 와 같은 순서)
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
+    @OrderBy("sortOrder ASC, id.areaId ASC")
     private List<ProductTradeArea> tradeAreas = new ArrayList<>();
 
     @Column(nullable = false)
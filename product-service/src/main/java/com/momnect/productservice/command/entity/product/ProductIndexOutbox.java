@@ -0,0 +1,36 @@
+package com.momnect.productservice.command.entity.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 검색 색인 outbox
+ * - 상품 변경과 같은 트랜잭션에서 적재되고, 색인 워커가 읽어 ES 에 반영한 뒤 삭제
+ */
+@Entity
+@Table(name = "tbl_product_index_outbox", indexes = {
+        @Index(name = "idx_product_index_outbox_attempts", columnList = "attempts, id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductIndexOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    // 색인 시도 횟수 (최대 횟수 초과 시 워커가 더 이상 집지 않음)
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,57 @@
+package com.momnect.productservice.command.entity.trade;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저별 거래 통계 (프로필/마이페이지 조회용 집계)
+ * - 상품 등록/거래 상태 변경 트랜잭션에서 증감, 주기적으로 tbl_product 기준 재계산
+ */
+@Entity
+@Table(name = "tbl_user_trade_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTradeStats {
+
+    @Id
+    private Long userId;
+
+    // 등록 상품 수 (삭제 제외, 판매 완료 포함)
+    @Column(nullable = false)
+    private Integer listingCount;
+
+    // 판매 중 상품 수 (삭제/판매 완료 제외)
+    @Column(nullable = false)
+    private Integer activeCount;
+
+    // 판매 완료 수
+    @Column(nullable = false)
+    private Integer soldCount;
+
+    // 구매 완료 수
+    @Column(nullable = false)
+    private Integer purchasedCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static UserTradeStats empty(Long userId) {
+        return UserTradeStats.builder()
+                .userId(userId)
+                .listingCount(0)
+                .activeCount(0)
+                .soldCount(0)
+                .purchasedCount(0)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 거래 횟수 (판매 + 구매)
+    public int getTradeCount() {
+        return soldCount + purchasedCount;
+    }
+}
@@ -0,0 +1,24 @@
+package com.momnect.productservice.command.repository;
+
+import com.momnect.productservice.command.entity.product.ProductIndexOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductIndexOutboxRepository extends JpaRepository<ProductIndexOutbox, Long> {
+
+    // 처리 대기 이벤트 (적재 순서대로)
+    List<ProductIndexOutbox> findByAttemptsLessThanOrderByIdAsc(Integer maxAttempts, Pageable pageable);
+
+    // 색인 실패 이벤트 재시도 횟수 증가
+    @Transactional
+    @Modifying
+    @Query("update ProductIndexOutbox o set o.attempts = o.attempts + 1 where o.id in :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+}
@@ -3,11 +3,23 @@ package com.momnect.productservice.command.repository;
 import com.momnect.productservice.command.entity.product.Product;
 import com.momnect.productservice.command.entity.product.RecommendedAge;
 import com.momnect.productservice.command.entity.product.TradeStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * 목록 조회 fetch 전략
+ * - 건수 제한(TopN) 조회: 컬렉션 fetch join 시 메모리 페이징이 되므로 default_batch_fetch_size 로 IN 일괄 로딩
+ * - 건수 제한 없는 조회: 거래지역 + 지역을 entity graph 로 함께 조회, 이미지는 IN 일괄 로딩
+ *   (List 컬렉션 두 개를 동시에 fetch join 할 수 없음)
+ */
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // 인기 Top30: viewCount DESC, createdAt DESC
@@ -25,8 +37,13 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     );
 
     // 지정한 ID 목록 조회 (찜순 정렬은 Service에서 ID 순서로 재정렬)
+    @EntityGraph(attributePaths = {"tradeAreas", "tradeAreas.area"})
     List<Product> findByIdIn(List<Long> ids);
 
+    @Override
+    @EntityGraph(attributePaths = {"tradeAreas", "tradeAreas.area"})
+    List<Product> findAllById(Iterable<Long> ids);
+
     List<Product> findTop3BySellerIdOrderByCreatedAtDesc(Long sellerId);
 
     Integer countByTradeStatusAndSellerIdOrBuyerId(TradeStatus tradeStatus, Long sellerId, Long buyerId);
@@ -35,10 +52,31 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     Integer countByTradeStatusAndBuyerId(TradeStatus tradeStatus, Long userId);
 
+    @EntityGraph(attributePaths = {"tradeAreas", "tradeAreas.area"})
     List<Product> findByTradeStatusAndBuyerId(TradeStatus tradeStatus, Long userId);
 
+    @EntityGraph(attributePaths = {"tradeAreas", "tradeAreas.area"})
     List<Product> findBySellerIdAndIsDeletedFalse(Long userId);
 
     Integer countBySellerIdAndIsDeletedFalse(Long userId);
-}
 
+    // 전체 재색인용 keyset 페이지 조회 (id 오름차순)
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+
+    // 거래 상태 조건부 변경: 읽은 상태(expected) 그대로일 때만 갱신, 동시 변경 시 0 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.tradeStatus = :status, p.updatedAt = :now, p.updatedBy = :userId "
+            + "where p.id = :id and p.tradeStatus = :expected")
+    int updateTradeStatusIf(@Param("id") Long id, @Param("expected") TradeStatus expected,
+                            @Param("status") TradeStatus status,
+                            @Param("now") LocalDateTime now, @Param("userId") Long userId);
+
+    // 판매 완료 조건부 변경: 읽은 상태(expected) 그대로일 때만 SOLD 로, 동시 변경 시 0 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.tradeStatus = com.momnect.productservice.command.entity.product.TradeStatus.SOLD, "
+            + "p.buyerId = :buyerId, p.soldAt = :now, p.updatedAt = :now, p.updatedBy = :userId "
+            + "where p.id = :id and p.tradeStatus = :expected")
+    int markSoldIf(@Param("id") Long id, @Param("expected") TradeStatus expected,
+                   @Param("buyerId") Long buyerId,
+                   @Param("now") LocalDateTime now, @Param("userId") Long userId);
+}
@@ -0,0 +1,7 @@
+package com.momnect.productservice.command.repository;
+
+import com.momnect.productservice.command.entity.trade.UserTradeStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserTradeStatsRepository extends JpaRepository<UserTradeStats, Long> {
+}
@@ -3,9 +3,9 @@ package com.momnect.productservice.command.repository;
 import com.momnect.productservice.command.entity.product.Wishlist;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Set;
@@ -14,6 +14,8 @@ import java.util.Optional;
 public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     Optional<Wishlist> findByProductIdAndUserId(Long productId, Long userId);
 
+    // 찜 목록 화면용: 상품까지 함께 조회 (상품의 이미지/거래지역은 IN 일괄 로딩)
+    @EntityGraph(attributePaths = "product")
     List<Wishlist> findAllByUserId(Long userId);
 
     // 특정 유저가 특정 상품을 찜했는지 여부 확인
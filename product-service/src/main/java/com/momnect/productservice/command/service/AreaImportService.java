@@ -0,0 +1,262 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.dto.area.AreaImportStatusDTO;
+import com.momnect.productservice.command.entity.area.AreaLevel;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 지역 엑셀 스트리밍 적재
+ * - POI SAX(event) API 로 시트를 한 행씩 읽어 메모리 사용량이 파일 크기와 무관
+ * - batch-size 단위 JDBC 배치로 code 기준 upsert → 같은 파일을 다시 적재해도 결과 동일
+ * - 부모 연결은 적재 후 code 규칙으로 한 번에 UPDATE (행마다 부모 조회하지 않음)
+ * - 호출한 트랜잭션에 참여 (AreaService.loadFromExcel)
+ */
+@Slf4j
+@Service
+public class AreaImportService {
+
+    // 좌표 컬럼이 비어 있는 파일로 다시 적재해도 기존 좌표는 유지
+    private static final String UPSERT_SQL =
+            "INSERT INTO tbl_area (code, name, level, latitude, longitude, created_at, updated_at, create_by, update_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE name = VALUES(name), level = VALUES(level), "
+                    + "latitude = COALESCE(VALUES(latitude), latitude), "
+                    + "longitude = COALESCE(VALUES(longitude), longitude), "
+                    + "updated_at = VALUES(updated_at), update_by = VALUES(update_by)";
+
+    // 시군구 → 시도 (앞 2자리 + 00000000)
+    private static final String LINK_SIGUNGU_SQL =
+            "UPDATE tbl_area c JOIN tbl_area p ON p.code = CONCAT(LEFT(c.code, 2), '00000000') "
+                    + "SET c.parent_id = p.id "
+                    + "WHERE c.level = 'SIGUNGU' AND (c.parent_id IS NULL OR c.parent_id <> p.id)";
+
+    // 읍면동 → 시군구 (앞 4자리 + 000000), 끝이 00 이 아닌 리 단위 코드는 부모 없음
+    private static final String LINK_EMD_SQL =
+            "UPDATE tbl_area c JOIN tbl_area p ON p.code = CONCAT(LEFT(c.code, 4), '000000') "
+                    + "SET c.parent_id = p.id "
+                    + "WHERE c.level = 'EMD' AND c.code LIKE '%00' AND (c.parent_id IS NULL OR c.parent_id <> p.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AreaNeighborBuilder areaNeighborBuilder;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile AreaImportStatusDTO status;
+
+    public AreaImportService(
+            JdbcTemplate jdbcTemplate,
+            AreaNeighborBuilder areaNeighborBuilder,
+            @Value("${product.area-import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.areaNeighborBuilder = areaNeighborBuilder;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 엑셀(xlsx) 첫 번째 시트 적재
+     * 엑셀 컬럼은 (예) 법정동코드, 시도명, 시군구명, 읍면동명, 동리명, 위도, 경도 순서라고 가정, 첫 행은 헤더
+     * (위도/경도는 선택, 없으면 기존 좌표 유지)
+     */
+    public AreaImportStatusDTO importXlsx(InputStream excelInputStream, Long systemUserId) throws Exception {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 지역 데이터 적재가 진행 중입니다.");
+        }
+
+        status = AreaImportStatusDTO.builder()
+                .state("RUNNING")
+                .readRows(0L)
+                .upsertedRows(0L)
+                .skippedRows(0L)
+                .startedAt(LocalDateTime.now())
+                .build();
+
+        try (OPCPackage pkg = OPCPackage.open(excelInputStream)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            RowHandler handler = new RowHandler(systemUserId);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("엑셀 시트가 없습니다.");
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(styles, strings, handler, new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+            handler.flush();
+
+            int linked = jdbcTemplate.update(LINK_SIGUNGU_SQL) + jdbcTemplate.update(LINK_EMD_SQL);
+
+            // 좌표 기준 읍면동 이웃 목록 재계산
+            areaNeighborBuilder.rebuild();
+
+            status = status.toBuilder()
+                    .state("COMPLETED")
+                    .finishedAt(LocalDateTime.now())
+                    .build();
+            log.info("지역 데이터 적재 완료 - read: {}, upserted: {}, skipped: {}, parentLinked: {}",
+                    status.getReadRows(), status.getUpsertedRows(), status.getSkippedRows(), linked);
+            return status;
+        } catch (Exception e) {
+            status = status.toBuilder()
+                    .state("FAILED")
+                    .finishedAt(LocalDateTime.now())
+                    .message(e.getMessage())
+                    .build();
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 마지막 적재 상태 (실행한 적 없으면 null)
+     */
+    public AreaImportStatusDTO getStatus() {
+        return status;
+    }
+
+    // ------------ internal --------------
+
+    /**
+     * 시트 행 처리기: 행을 파라미터 배열로 바꿔 버퍼에 모으고, 가득 차면 배치 upsert
+     */
+    private class RowHandler implements SheetContentsHandler {
+
+        private final Long systemUserId;
+        private final List<Object[]> buffer = new ArrayList<>(batchSize);
+
+        private final String[] cells = new String[7];
+        private int currentCol;
+
+        private long read;
+        private long upserted;
+        private long skipped;
+
+        RowHandler(Long systemUserId) {
+            this.systemUserId = systemUserId;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(cells, "");
+            currentCol = -1;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int col = cellReference != null ? new CellReference(cellReference).getCol() : currentCol + 1;
+            currentCol = col;
+            if (col < cells.length && formattedValue != null) {
+                cells[col] = formattedValue.trim();
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0) return; // 헤더 스킵
+
+            read++;
+            String code = normalizeCode(cells[0]);
+            if (code.isEmpty()) {
+                skipped++;
+                return;
+            }
+
+            AreaLevel level = detectLevel(code);
+            String name = chooseName(level, cells[1], cells[2], cells[3], cells[4]);
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            buffer.add(new Object[]{code, name, level.name(), parseCoordinate(cells[5], 90), parseCoordinate(cells[6], 180),
+                    now, now, systemUserId, systemUserId});
+
+            if (buffer.size() >= batchSize) flush();
+        }
+
+        void flush() {
+            if (!buffer.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, buffer);
+                upserted += buffer.size();
+                buffer.clear();
+                log.debug("지역 데이터 적재 중 - read: {}, upserted: {}", read, upserted);
+            }
+            status = status.toBuilder()
+                    .readRows(read)
+                    .upsertedRows(upserted)
+                    .skippedRows(skipped)
+                    .build();
+        }
+    }
+
+    // 숫자 셀이 지수/소수 형태로 포맷된 경우에도 10자리 코드 문자열로
+    private static String normalizeCode(String raw) {
+        if (raw == null || raw.isEmpty()) return "";
+        if (raw.contains("E") || raw.contains("e") || raw.contains(".")) {
+            try {
+                return new BigDecimal(raw).toBigInteger().toString();
+            } catch (NumberFormatException e) {
+                return raw;
+            }
+        }
+        return raw;
+    }
+
+    // 좌표 셀 → 숫자 (비었거나 범위를 벗어나면 null)
+    private static Double parseCoordinate(String raw, double maxAbs) {
+        if (raw == null || raw.isEmpty()) return null;
+        try {
+            double value = Double.parseDouble(raw);
+            return Math.abs(value) <= maxAbs ? value : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 이름 선택: 가장 구체적인(emd > sigungu > sido)
+    private static String chooseName(AreaLevel level, String sidoName, String sigunguName,
+                                     String emdName, String dongriName) {
+        if (level == AreaLevel.EMD) {
+            return !emdName.isEmpty() ? emdName : (!dongriName.isEmpty() ? dongriName : sigunguName);
+        } else if (level == AreaLevel.SIGUNGU) {
+            return !sigunguName.isEmpty() ? sigunguName : sidoName;
+        }
+        return sidoName;
+    }
+
+    private static AreaLevel detectLevel(String code) {
+        // code는 10자리 문자열 (예: 1100000000, 1111000000, 1111010100)
+        if (code.endsWith("00000000")) return AreaLevel.SIDO;
+        if (code.endsWith("000000")) return AreaLevel.SIGUNGU;
+        if (code.endsWith("00")) return AreaLevel.EMD;
+        // 기본 fallback
+        return AreaLevel.EMD;
+    }
+}
@@ -0,0 +1,134 @@
+package com.momnect.productservice.command.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 읍면동 이웃 목록(tbl_area_neighbor) 계산
+ * - 좌표가 있는 읍면동을 반경 크기 격자에 나눠 담고, 주변 9칸만 비교 (전체 쌍 비교 없음)
+ * - 반경 max-radius-km 이내, 가까운 순 max-neighbors 개까지 저장 (자기 자신 제외)
+ * - 지역 적재 트랜잭션 안에서 호출되어 기존 목록을 통째로 교체
+ */
+@Slf4j
+@Component
+public class AreaNeighborBuilder {
+
+    private static final String LOAD_SQL =
+            "SELECT id, latitude, longitude FROM tbl_area "
+                    + "WHERE level = 'EMD' AND latitude IS NOT NULL AND longitude IS NOT NULL";
+    private static final String DELETE_SQL = "DELETE FROM tbl_area_neighbor";
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_area_neighbor (area_id, neighbor_id, distance_m) VALUES (?, ?, ?)";
+
+    private static final double EARTH_RADIUS_M = 6_371_000d;
+    private static final double KM_PER_LAT_DEGREE = 111.32d;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double maxRadiusKm;
+    private final int maxNeighbors;
+    private final int batchSize;
+
+    public AreaNeighborBuilder(
+            JdbcTemplate jdbcTemplate,
+            @Value("${product.area-neighbor.max-radius-km:10}") double maxRadiusKm,
+            @Value("${product.area-neighbor.max-neighbors:50}") int maxNeighbors,
+            @Value("${product.area-import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxRadiusKm = maxRadiusKm;
+        this.maxNeighbors = maxNeighbors;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 이웃 목록 전체 재계산
+     *
+     * @return 저장한 이웃 행 수
+     */
+    public int rebuild() {
+        List<Point> points = jdbcTemplate.query(LOAD_SQL, (rs, rowNum) ->
+                new Point(rs.getInt("id"), rs.getDouble("latitude"), rs.getDouble("longitude")));
+
+        jdbcTemplate.update(DELETE_SQL);
+        if (points.isEmpty()) return 0;
+
+        // 격자 크기: 위도 1도 ≈ 111km, 경도는 가장 높은 위도 기준 (칸이 반경보다 작아지지 않도록)
+        double maxAbsLat = points.stream().mapToDouble(p -> Math.abs(p.lat())).max().orElse(0d);
+        double latCell = maxRadiusKm / KM_PER_LAT_DEGREE;
+        double lngCell = maxRadiusKm / (KM_PER_LAT_DEGREE * Math.max(0.1d, Math.cos(Math.toRadians(maxAbsLat))));
+
+        Map<Long, List<Point>> grid = new HashMap<>();
+        for (Point p : points) {
+            grid.computeIfAbsent(cellKey(row(p, latCell), col(p, lngCell)), k -> new ArrayList<>()).add(p);
+        }
+
+        double maxRadiusM = maxRadiusKm * 1000d;
+        List<Object[]> buffer = new ArrayList<>(batchSize);
+        int inserted = 0;
+        for (Point p : points) {
+            int row = row(p, latCell);
+            int col = col(p, lngCell);
+
+            List<long[]> near = new ArrayList<>();   // [neighborId, distanceM]
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    for (Point q : grid.getOrDefault(cellKey(row + dr, col + dc), List.of())) {
+                        if (q.id() == p.id()) continue;
+                        double d = distanceM(p, q);
+                        if (d <= maxRadiusM) near.add(new long[]{q.id(), Math.round(d)});
+                    }
+                }
+            }
+            near.sort(Comparator.comparingLong((long[] n) -> n[1]).thenComparingLong(n -> n[0]));
+
+            for (int i = 0; i < Math.min(maxNeighbors, near.size()); i++) {
+                buffer.add(new Object[]{p.id(), (int) near.get(i)[0], (int) near.get(i)[1]});
+                if (buffer.size() >= batchSize) {
+                    inserted += flush(buffer);
+                }
+            }
+        }
+        inserted += flush(buffer);
+
+        log.info("읍면동 이웃 목록 계산 완료 - areas: {}, neighbors: {}", points.size(), inserted);
+        return inserted;
+    }
+
+    // ------------ internal --------------
+
+    private int flush(List<Object[]> buffer) {
+        if (buffer.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate(INSERT_SQL, buffer);
+        int size = buffer.size();
+        buffer.clear();
+        return size;
+    }
+
+    private static int row(Point p, double latCell) {
+        return (int) Math.floor(p.lat() / latCell);
+    }
+
+    private static int col(Point p, double lngCell) {
+        return (int) Math.floor(p.lng() / lngCell);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    // haversine
+    private static double distanceM(Point a, Point b) {
+        double dLat = Math.toRadians(b.lat() - a.lat());
+        double dLng = Math.toRadians(b.lng() - a.lng());
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(a.lat())) * Math.cos(Math.toRadians(b.lat()))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1d, Math.sqrt(h)));
+    }
+
+    private record Point(int id, double lat, double lng) {
+    }
+}
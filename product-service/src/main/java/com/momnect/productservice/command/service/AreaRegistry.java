@@ -0,0 +1,336 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.dto.area.AreaDto;
+import com.momnect.productservice.command.entity.area.AreaLevel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 지역 메모리 레지스트리
+ * - tbl_area 전체를 한 번에 읽어 id 정렬 배열로 보관 (이름, 풀네임, 부모 인덱스, 레벨)
+ * - 읍면동 이름은 1글자/2글자 n-gram 색인으로 부분 일치 검색
+ * - 읍면동 이웃 목록(tbl_area_neighbor)은 거리순 배열로 보관 → 반경 확장은 이진 탐색만 (거리 계산 없음)
+ *   (기본 지역 엑셀에는 좌표가 없어 이웃 목록이 비므로, 좌표 적재 전까지 검색 요청에는 반경 옵션을 노출하지 않음)
+ * - 지역 데이터는 엑셀 적재 시에만 바뀌므로, 적재 커밋 이후 스냅샷을 통째로 다시 만들어 교체
+ */
+@Slf4j
+@Component
+public class AreaRegistry {
+
+    private static final String LOAD_SQL = "SELECT id, parent_id, name, level FROM tbl_area ORDER BY id";
+    private static final String NEIGHBOR_SQL =
+            "SELECT area_id, neighbor_id, distance_m FROM tbl_area_neighbor ORDER BY area_id, distance_m, neighbor_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Snapshot snapshot;
+
+    public AreaRegistry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 테이블이 아직 없는 경우 등, 첫 조회 시 다시 시도
+            log.warn("지역 레지스트리 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * DB 에서 다시 읽어 스냅샷 교체
+     */
+    public synchronized void reload() {
+        List<Object[]> rows = jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> new Object[]{
+                rs.getInt("id"),
+                rs.getObject("parent_id", Integer.class),
+                rs.getString("name"),
+                rs.getString("level")
+        });
+        List<int[]> neighborRows = jdbcTemplate.query(NEIGHBOR_SQL, (rs, rowNum) -> new int[]{
+                rs.getInt("area_id"),
+                rs.getInt("neighbor_id"),
+                rs.getInt("distance_m")
+        });
+        snapshot = Snapshot.build(rows, neighborRows);
+        log.info("지역 레지스트리 적재 완료 - areas: {}, emd: {}, neighbors: {}",
+                snapshot.ids.length, snapshot.emdIndexes.length, neighborRows.size());
+        if (snapshot.emdIndexes.length > 0 && neighborRows.isEmpty()) {
+            log.warn("읍면동 이웃 목록이 비어 있음 (지역 좌표 미적재) - 반경 확장 불가");
+        }
+    }
+
+    /**
+     * 스냅샷 재생성 요청 (트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void requestReload() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    public boolean contains(Integer areaId) {
+        return areaId != null && current().indexOf(areaId) >= 0;
+    }
+
+    /**
+     * id 목록 → AreaDto (없는 id 는 제외, 요청 순서 유지)
+     */
+    public List<AreaDto> findAll(Collection<Integer> areaIds) {
+        Snapshot s = current();
+        List<AreaDto> result = new ArrayList<>(areaIds.size());
+        Set<Integer> seen = new HashSet<>();
+        for (Integer areaId : areaIds) {
+            if (areaId == null || !seen.add(areaId)) continue;
+            int idx = s.indexOf(areaId);
+            if (idx >= 0) result.add(s.toDto(idx));
+        }
+        return result;
+    }
+
+    /**
+     * 읍면동 이름 부분 일치 검색 (id 순)
+     */
+    public List<AreaDto> searchEmd(String keyword) {
+        Snapshot s = current();
+        String q = keyword == null ? "" : keyword.trim();
+
+        int[] candidates = s.candidates(q);
+        List<AreaDto> result = new ArrayList<>();
+        for (int idx : candidates) {
+            if (q.length() <= 2 || s.names[idx].contains(q)) {
+                result.add(s.toDto(idx));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이웃 목록 적재 여부 (좌표가 있는 지역 데이터로 계산된 경우에만 반경 검색 가능)
+     */
+    public boolean hasNeighbors() {
+        return !current().neighbors.isEmpty();
+    }
+
+    /**
+     * 지역 + 반경 안의 이웃 읍면동 id (자신 먼저, 이후 가까운 순)
+     * - 이웃 목록은 적재 시 계산된 최대 반경/개수까지만 있음
+     */
+    public List<Integer> withinRadius(Integer areaId, double radiusKm) {
+        if (areaId == null) return List.of();
+        Neighbors neighbors = current().neighbors.get(areaId);
+        if (neighbors == null || radiusKm <= 0) return List.of(areaId);
+
+        // distances 는 오름차순 → 반경을 넘는 첫 위치까지
+        int maxDistanceM = (int) Math.min(Integer.MAX_VALUE, Math.round(radiusKm * 1000d));
+        int end = upperBound(neighbors.distances(), maxDistanceM);
+
+        List<Integer> result = new ArrayList<>(end + 1);
+        result.add(areaId);
+        for (int i = 0; i < end; i++) {
+            result.add(neighbors.ids()[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 부모 지역 ID (최상위이거나 없는 지역이면 null)
+     */
+    public Integer parentId(Integer areaId) {
+        Snapshot s = current();
+        int idx = areaId == null ? -1 : s.indexOf(areaId);
+        if (idx < 0 || s.parentIndexes[idx] < 0) return null;
+        return s.ids[s.parentIndexes[idx]];
+    }
+
+    // ------------ internal --------------
+
+    // value 보다 큰 첫 위치
+    private static int upperBound(int[] sorted, int value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // 이웃 id / 거리(m), 거리 오름차순
+    private record Neighbors(int[] ids, int[] distances) {
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            synchronized (this) {
+                if (snapshot == null) reload();
+                s = snapshot;
+            }
+        }
+        return s;
+    }
+
+    /**
+     * 불변 스냅샷 (배열 인덱스 = id 오름차순 위치)
+     */
+    private static final class Snapshot {
+
+        private static final int[] NONE = new int[0];
+
+        final int[] ids;
+        final int[] parentIndexes;
+        final String[] names;
+        final String[] fullNames;
+        final byte[] levels;
+
+        // 읍면동만: 위치 목록, n-gram → 위치 목록 (오름차순)
+        final int[] emdIndexes;
+        final Map<String, int[]> gramIndex;
+
+        // 읍면동 id → 이웃 목록
+        final Map<Integer, Neighbors> neighbors;
+
+        private Snapshot(int[] ids, int[] parentIndexes, String[] names, String[] fullNames, byte[] levels,
+                         int[] emdIndexes, Map<String, int[]> gramIndex, Map<Integer, Neighbors> neighbors) {
+            this.ids = ids;
+            this.parentIndexes = parentIndexes;
+            this.names = names;
+            this.fullNames = fullNames;
+            this.levels = levels;
+            this.emdIndexes = emdIndexes;
+            this.gramIndex = gramIndex;
+            this.neighbors = neighbors;
+        }
+
+        static Snapshot build(List<Object[]> rows, List<int[]> neighborRows) {
+            int n = rows.size();
+            int[] ids = new int[n];
+            String[] names = new String[n];
+            byte[] levels = new byte[n];
+            for (int i = 0; i < n; i++) {
+                Object[] row = rows.get(i);
+                ids[i] = (Integer) row[0];
+                names[i] = (String) row[2];
+                levels[i] = (byte) AreaLevel.valueOf((String) row[3]).ordinal();
+            }
+
+            // 부모 id → 위치 (rows 는 id 오름차순)
+            int[] parentIndexes = new int[n];
+            for (int i = 0; i < n; i++) {
+                Integer parentId = (Integer) rows.get(i)[1];
+                parentIndexes[i] = parentId == null ? -1 : Arrays.binarySearch(ids, parentId);
+                if (parentIndexes[i] < 0) parentIndexes[i] = -1;
+            }
+
+            // 풀네임: 부모 체인을 따라 올라가며 한 번씩만 계산
+            String[] fullNames = new String[n];
+            for (int i = 0; i < n; i++) {
+                fullNames[i] = fullName(i, parentIndexes, names, fullNames, 0);
+            }
+
+            // 읍면동 n-gram 색인
+            int emdLevel = AreaLevel.EMD.ordinal();
+            List<Integer> emd = new ArrayList<>();
+            Map<String, List<Integer>> grams = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                if (levels[i] != emdLevel) continue;
+                emd.add(i);
+                for (String gram : grams(names[i])) {
+                    grams.computeIfAbsent(gram, k -> new ArrayList<>()).add(i);
+                }
+            }
+
+            Map<String, int[]> gramIndex = new HashMap<>(grams.size() * 2);
+            grams.forEach((gram, postings) -> gramIndex.put(gram, toArray(postings)));
+
+            // 이웃 행은 (area_id, distance_m) 순 정렬 → area_id 가 바뀔 때마다 배열로 묶음
+            Map<Integer, Neighbors> neighbors = new HashMap<>();
+            int start = 0;
+            for (int i = 1; i <= neighborRows.size(); i++) {
+                if (i < neighborRows.size() && neighborRows.get(i)[0] == neighborRows.get(start)[0]) continue;
+                int[] neighborIds = new int[i - start];
+                int[] distances = new int[i - start];
+                for (int j = start; j < i; j++) {
+                    neighborIds[j - start] = neighborRows.get(j)[1];
+                    distances[j - start] = neighborRows.get(j)[2];
+                }
+                neighbors.put(neighborRows.get(start)[0], new Neighbors(neighborIds, distances));
+                start = i;
+            }
+
+            return new Snapshot(ids, parentIndexes, names, fullNames, levels, toArray(emd), gramIndex, neighbors);
+        }
+
+        int indexOf(int areaId) {
+            return Arrays.binarySearch(ids, areaId);
+        }
+
+        AreaDto toDto(int idx) {
+            return AreaDto.builder()
+                    .id(ids[idx])
+                    .emd(names[idx])
+                    .fullName(fullNames[idx])
+                    .build();
+        }
+
+        /**
+         * 검색어를 포함할 수 있는 읍면동 후보
+         * - 1~2글자: 해당 gram 목록이 곧 결과
+         * - 3글자 이상: 가장 짧은 bigram 목록을 후보로 (호출 측에서 contains 확인)
+         */
+        int[] candidates(String q) {
+            if (q.isEmpty()) return emdIndexes;
+            if (q.length() <= 2) return gramIndex.getOrDefault(q, NONE);
+
+            int[] best = null;
+            for (int i = 0; i + 2 <= q.length(); i++) {
+                int[] postings = gramIndex.get(q.substring(i, i + 2));
+                if (postings == null) return NONE;
+                if (best == null || postings.length < best.length) best = postings;
+            }
+            return best;
+        }
+
+        private static String fullName(int idx, int[] parentIndexes, String[] names, String[] fullNames, int depth) {
+            if (fullNames[idx] != null) return fullNames[idx];
+            int parent = parentIndexes[idx];
+            // 잘못된 순환 참조 방어
+            if (parent < 0 || depth > AreaLevel.values().length) return names[idx];
+            fullNames[idx] = fullName(parent, parentIndexes, names, fullNames, depth + 1) + " " + names[idx];
+            return fullNames[idx];
+        }
+
+        private static Set<String> grams(String name) {
+            Set<String> result = new LinkedHashSet<>();
+            for (int i = 0; i < name.length(); i++) {
+                result.add(name.substring(i, i + 1));
+                if (i + 2 <= name.length()) result.add(name.substring(i, i + 2));
+            }
+            return result;
+        }
+
+        private static int[] toArray(List<Integer> values) {
+            int[] array = new int[values.size()];
+            for (int i = 0; i < array.length; i++) array[i] = values.get(i);
+            return array;
+        }
+    }
+}
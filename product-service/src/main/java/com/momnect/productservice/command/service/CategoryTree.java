@@ -0,0 +1,193 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.dto.product.ProductCategoryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * 상품 카테고리 트리 메모리 스냅샷
+ * - tbl_product_category 전체를 한 번에 읽어 트리 DTO 와 노드별 하위 카테고리 id 집합(자신 포함)을 미리 계산
+ * - 카테고리는 초기화(data.sql) 시에만 바뀌므로, 변경 후 스냅샷을 통째로 다시 만들어 교체
+ * - 내용 해시(ETag)와 최종 수정 시각(Last-Modified)으로 클라이언트 재검증 지원
+ */
+@Slf4j
+@Component
+public class CategoryTree {
+
+    private static final String LOAD_SQL =
+            "SELECT id, parent_id, name, updated_at FROM tbl_product_category ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Snapshot snapshot;
+
+    public CategoryTree(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 테이블이 아직 없는 경우 등, 첫 조회 시 다시 시도
+            log.warn("카테고리 트리 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * DB 에서 다시 읽어 스냅샷 교체
+     */
+    public synchronized void reload() {
+        List<Node> nodes = jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> {
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            return new Node(
+                    rs.getLong("id"),
+                    rs.getObject("parent_id", Long.class),
+                    rs.getString("name"),
+                    updatedAt != null ? updatedAt.getTime() : 0L);
+        });
+        snapshot = Snapshot.build(nodes);
+        log.info("카테고리 트리 적재 완료 - categories: {}, etag: {}", nodes.size(), snapshot.etag);
+    }
+
+    /**
+     * 최상위 카테고리 트리 (읽기 전용)
+     */
+    public List<ProductCategoryDto> roots() {
+        return current().roots;
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리 id (트리에 없는 id 면 자신만)
+     */
+    public Set<Long> descendantIdsOf(Long categoryId) {
+        if (categoryId == null) return Set.of();
+        return current().descendants.getOrDefault(categoryId, Set.of(categoryId));
+    }
+
+    /**
+     * 트리 내용 해시 (따옴표 포함 강한 ETag 형식)
+     */
+    public String etag() {
+        return current().etag;
+    }
+
+    /**
+     * 카테고리 최종 수정 시각 (epoch ms, 초 단위 절삭)
+     */
+    public long lastModified() {
+        return current().lastModified;
+    }
+
+    // ------------ internal --------------
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            synchronized (this) {
+                if (snapshot == null) reload();
+                s = snapshot;
+            }
+        }
+        return s;
+    }
+
+    private record Node(long id, Long parentId, String name, long updatedAt) {
+    }
+
+    /**
+     * 불변 스냅샷
+     */
+    private static final class Snapshot {
+
+        final List<ProductCategoryDto> roots;
+        final Map<Long, Set<Long>> descendants;
+        final String etag;
+        final long lastModified;
+
+        private Snapshot(List<ProductCategoryDto> roots, Map<Long, Set<Long>> descendants,
+                         String etag, long lastModified) {
+            this.roots = roots;
+            this.descendants = descendants;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        static Snapshot build(List<Node> nodes) {
+            Map<Long, Node> byId = new HashMap<>(nodes.size() * 2);
+            Map<Long, List<Node>> childrenOf = new HashMap<>();
+            List<Node> rootNodes = new ArrayList<>();
+            for (Node node : nodes) {
+                byId.put(node.id(), node);
+            }
+            for (Node node : nodes) {   // id 오름차순 → 자식도 id 순
+                if (node.parentId() == null || !byId.containsKey(node.parentId())) {
+                    rootNodes.add(node);
+                } else {
+                    childrenOf.computeIfAbsent(node.parentId(), k -> new ArrayList<>()).add(node);
+                }
+            }
+
+            Map<Long, Set<Long>> descendants = new HashMap<>(nodes.size() * 2);
+            List<ProductCategoryDto> roots = new ArrayList<>(rootNodes.size());
+            for (Node root : rootNodes) {
+                roots.add(toDto(root, childrenOf, descendants, new HashSet<>()));
+            }
+
+            long lastModified = 0L;
+            for (Node node : nodes) {
+                lastModified = Math.max(lastModified, node.updatedAt());
+            }
+
+            return new Snapshot(List.copyOf(roots), Map.copyOf(descendants),
+                    hash(nodes), lastModified / 1000 * 1000);
+        }
+
+        // 하위 트리 DTO 생성 + 노드별 하위 id 집합 수집 (순환 참조 방지)
+        private static ProductCategoryDto toDto(Node node, Map<Long, List<Node>> childrenOf,
+                                                Map<Long, Set<Long>> descendants, Set<Long> path) {
+            Set<Long> ids = new HashSet<>();
+            ids.add(node.id());
+
+            List<ProductCategoryDto> children = new ArrayList<>();
+            if (path.add(node.id())) {
+                for (Node child : childrenOf.getOrDefault(node.id(), List.of())) {
+                    if (path.contains(child.id())) continue;
+                    children.add(toDto(child, childrenOf, descendants, path));
+                    ids.addAll(descendants.get(child.id()));
+                }
+                path.remove(node.id());
+            }
+
+            descendants.put(node.id(), Set.copyOf(ids));
+            return ProductCategoryDto.builder()
+                    .id(node.id())
+                    .name(node.name())
+                    .children(List.copyOf(children))
+                    .build();
+        }
+
+        private static String hash(List<Node> nodes) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (Node node : nodes) {
+                    digest.update((node.id() + ":" + node.parentId() + ":" + node.name() + "\n")
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+                return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
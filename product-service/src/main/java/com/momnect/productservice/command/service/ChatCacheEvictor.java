@@ -0,0 +1,85 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.client.ChatClient;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 채팅 서비스 상품 요약 캐시 무효화
+ * - 상품이 실제로 바뀐 곳(거래 상태 변경 등)에서 호출, 트랜잭션 커밋 후에 전송
+ * - 전용 스레드 1개 + 제한된 큐에서 비동기 호출 → 채팅 서비스가 느려도 요청/스케줄러 스레드를 잡지 않음
+ * - 큐가 가득 차거나 호출이 실패하면 로그만 남김 (채팅 캐시는 TTL 만료로 반영)
+ */
+@Slf4j
+@Component
+public class ChatCacheEvictor {
+
+    private final ChatClient chatClient;
+    private final ThreadPoolExecutor executor;
+
+    public ChatCacheEvictor(
+            ChatClient chatClient,
+            @Value("${product.chat-cache-evict.queue-capacity:1000}") int queueCapacity) {
+        this.chatClient = chatClient;
+        this.executor = new ThreadPoolExecutor(
+                1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "chat-cache-evict");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 변경된 상품의 채팅 캐시 무효화 (트랜잭션 안이면 커밋 후)
+     *
+     * @param productIds 변경된 상품 ID 목록
+     */
+    public void evictProductsAfterCommit(Collection<Long> productIds) {
+        if (productIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(productIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(ids);
+                }
+            });
+        } else {
+            submit(ids);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // ------------ internal --------------
+
+    private void submit(List<Long> productIds) {
+        try {
+            executor.execute(() -> {
+                try {
+                    chatClient.evictProducts(productIds);
+                } catch (Exception e) {
+                    log.warn("채팅 상품 캐시 무효화 실패 (TTL 만료 후 반영) - productIds: {}, reason: {}",
+                            productIds, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("채팅 상품 캐시 무효화 대기열 포화 (TTL 만료 후 반영) - productIds: {}", productIds);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.momnect.productservice.command.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 홈 섹션 스냅샷 백그라운드 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeSectionRefresher {
+
+    private final ProductService productService;
+    private final HomeSectionSnapshot homeSectionSnapshot;
+
+    @Scheduled(fixedDelayString = "${product.home-snapshot.check-interval-ms:1000}")
+    public void refreshIfNeeded() {
+        if (!homeSectionSnapshot.claimRefresh()) return;
+
+        try {
+            homeSectionSnapshot.swap(productService.buildHomeSections());
+        } catch (Exception e) {
+            // 실패 시 기존 스냅샷 유지, 오래된 정도를 함께 기록
+            long staleness = homeSectionSnapshot.stalenessMillis();
+            log.warn("홈 섹션 스냅샷 갱신 실패 - staleness: {}ms", staleness == Long.MAX_VALUE ? -1 : staleness, e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.dto.product.ProductSummaryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 홈 섹션(인기/신규/찜순) 스냅샷 보관소
+ * - 찜 여부 없이 미리 만들어 둔 섹션을 통째로 교체(atomic swap)
+ * - 요청 경로는 스냅샷을 읽고 로그인 유저의 찜 여부만 덧씌움
+ */
+@Component
+public class HomeSectionSnapshot {
+
+    private final AtomicReference<Sections> current = new AtomicReference<>();
+    private final AtomicBoolean refreshRequested = new AtomicBoolean(true);
+
+    private final long refreshIntervalMillis;
+
+    public HomeSectionSnapshot(@Value("${product.home-snapshot.refresh-interval-ms:5000}") long refreshIntervalMillis) {
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    /**
+     * 현재 스냅샷 (아직 생성 전이면 null)
+     */
+    public Sections get() {
+        return current.get();
+    }
+
+    public void swap(Sections sections) {
+        current.set(sections);
+    }
+
+    /**
+     * 강제 갱신 요청 (상품 등록, 거래 상태 변경 시)
+     * - 트랜잭션 안이면 커밋 이후에 반영
+     */
+    public void requestRefresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshRequested.set(true);
+                }
+            });
+        } else {
+            refreshRequested.set(true);
+        }
+    }
+
+    /**
+     * 갱신이 필요한지 확인하고, 필요하면 갱신 요청 플래그를 소비
+     */
+    public boolean claimRefresh() {
+        if (refreshRequested.getAndSet(false)) return true;
+        return stalenessMillis() >= refreshIntervalMillis;
+    }
+
+    /**
+     * 스냅샷 경과 시간(ms), 스냅샷이 없으면 Long.MAX_VALUE
+     */
+    public long stalenessMillis() {
+        Sections sections = current.get();
+        return sections == null ? Long.MAX_VALUE : System.currentTimeMillis() - sections.builtAt();
+    }
+
+    public long getRefreshIntervalMillis() {
+        return refreshIntervalMillis;
+    }
+
+    public record Sections(
+            List<ProductSummaryDto> popular,
+            List<ProductSummaryDto> latest,
+            List<ProductSummaryDto> likeRanked,
+            long builtAt) {
+
+        public Sections {
+            popular = List.copyOf(popular);
+            latest = List.copyOf(latest);
+            likeRanked = List.copyOf(likeRanked);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.client.FileClient;
+import com.momnect.productservice.command.client.dto.ImageFileDTO;
+import com.momnect.productservice.common.ApiResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 파일 ID → 경로 조회기
+ * - 프로세스 내 LRU 캐시 (최대 크기 + TTL)
+ * - 같은 ID에 대한 동시 미스는 하나의 file-service 호출로 합침
+ * - 짧은 시간 창(batch-window) 동안 들어온 미스를 모아 한 번에 조회
+ */
+@Slf4j
+@Component
+public class ImagePathResolver {
+
+    private final FileClient fileClient;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long batchWindowMillis;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+
+    // imageFileId -> 경로 (접근 순서 LRU, cache 자체로 동기화)
+    private final LinkedHashMap<Long, CachedPath> cache;
+
+    // 조회 중인 ID -> 결과 Future (요청 합치기)
+    private final ConcurrentHashMap<Long, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    // 다음 배치로 조회할 ID
+    private final Queue<Long> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final ScheduledExecutorService batcher;
+
+    public ImagePathResolver(
+            FileClient fileClient,
+            @Value("${product.image-path-cache.max-size:10000}") int maxSize,
+            @Value("${product.image-path-cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${product.image-path-cache.batch-window-ms:5}") long batchWindowMillis,
+            @Value("${product.image-path-cache.max-batch-size:200}") int maxBatchSize,
+            @Value("${product.image-path-cache.timeout-ms:2000}") long timeoutMillis) {
+        this.fileClient = fileClient;
+        this.maxSize = maxSize;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.batchWindowMillis = batchWindowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedPath> eldest) {
+                return size() > ImagePathResolver.this.maxSize;
+            }
+        };
+
+        AtomicInteger seq = new AtomicInteger();
+        this.batcher = Executors.newScheduledThreadPool(2, r -> {
+            Thread t = new Thread(r, "image-path-resolver-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 이미지 파일 ID 목록의 경로 조회
+     * - 캐시에 없는 ID만 file-service 에서 배치 조회
+     * - 조회 실패/타임아웃된 ID는 결과에서 빠짐 (호출 측에서 null 처리)
+     *
+     * @param imageIds 조회할 이미지 파일 ID
+     * @return imageFileId -> 상대 경로
+     */
+    public Map<Long, String> resolve(Collection<Long> imageIds) {
+        if (imageIds == null || imageIds.isEmpty()) return Map.of();
+
+        Map<Long, String> result = new HashMap<>();
+        Map<Long, CompletableFuture<String>> waiting = new HashMap<>();
+
+        long now = System.currentTimeMillis();
+        for (Long id : imageIds) {
+            if (id == null || result.containsKey(id) || waiting.containsKey(id)) continue;
+
+            String path = getIfPresent(id, now);
+            if (path != null) {
+                result.put(id, path);
+            } else {
+                waiting.put(id, load(id));
+            }
+        }
+
+        if (waiting.isEmpty()) return result;
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Map.Entry<Long, CompletableFuture<String>> e : waiting.entrySet()) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                String path = e.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                if (path != null) result.put(e.getKey(), path);
+            } catch (TimeoutException ex) {
+                log.warn("이미지 경로 조회 타임아웃 - imageFileId: {}", e.getKey());
+            } catch (ExecutionException ex) {
+                log.warn("이미지 경로 조회 실패 - imageFileId: {}", e.getKey(), ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 단건 경로 조회
+     */
+    public String resolve(Long imageId) {
+        return resolve(List.of(imageId)).get(imageId);
+    }
+
+    /**
+     * 이미 알고 있는 경로를 캐시에 적재
+     */
+    public void prime(Long imageId, String path) {
+        if (imageId == null || path == null) return;
+        put(imageId, path, System.currentTimeMillis());
+    }
+
+    /**
+     * 캐시에서 제거 (파일 교체/삭제 시)
+     */
+    public void invalidate(Long imageId) {
+        synchronized (cache) {
+            cache.remove(imageId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batcher.shutdownNow();
+    }
+
+    // ------------ internal --------------
+
+    private String getIfPresent(Long id, long now) {
+        synchronized (cache) {
+            CachedPath cached = cache.get(id);
+            if (cached == null) return null;
+            if (cached.expiresAt() < now) {
+                cache.remove(id);
+                return null;
+            }
+            return cached.path();
+        }
+    }
+
+    private void put(Long id, String path, long now) {
+        synchronized (cache) {
+            cache.put(id, new CachedPath(path, now + ttlMillis));
+        }
+    }
+
+    // 미스 처리: 이미 조회 중이면 그 Future 를 공유, 아니면 다음 배치에 등록
+    private CompletableFuture<String> load(Long id) {
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(id, mine);
+        if (existing != null) return existing;
+
+        pending.add(id);
+        if (pendingCount.incrementAndGet() >= maxBatchSize) {
+            batcher.execute(this::flush);
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            batcher.schedule(this::flush, batchWindowMillis, TimeUnit.MILLISECONDS);
+        }
+        return mine;
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+
+        List<Long> batch = new ArrayList<>();
+        Long id;
+        while ((id = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(id);
+            if (batch.size() >= maxBatchSize) {
+                fetch(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) fetch(batch);
+    }
+
+    private void fetch(List<Long> batch) {
+        try {
+            String idsParam = batch.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+
+            ApiResponse<List<ImageFileDTO>> response = fileClient.getImageFilesByIds(idsParam);
+
+            Map<Long, String> paths = (response == null || response.getData() == null)
+                    ? Map.of()
+                    : response.getData().stream()
+                    .filter(dto -> dto.getId() != null && dto.getPath() != null)
+                    .collect(Collectors.toMap(ImageFileDTO::getId, ImageFileDTO::getPath, (a, b) -> a));
+
+            // 캐시 적재 후 inFlight 제거 → 새 요청은 캐시 또는 진행 중 Future 중 하나를 보게 됨
+            long now = System.currentTimeMillis();
+            for (Long imageId : batch) {
+                String path = paths.get(imageId);
+                if (path != null) put(imageId, path, now);
+
+                CompletableFuture<String> future = inFlight.remove(imageId);
+                if (future != null) future.complete(path);
+            }
+        } catch (Exception e) {
+            log.warn("file-service 이미지 경로 배치 조회 실패 - size: {}", batch.size(), e);
+            for (Long imageId : batch) {
+                CompletableFuture<String> future = inFlight.remove(imageId);
+                if (future != null) future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private record CachedPath(String path, long expiresAt) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.common.AuthorizationContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 독립적인 조회(Feign, DB)를 병렬로 실행하는 실행기
+ * - 고정 크기 풀 + 제한된 큐, 큐가 가득 차면 실행하지 않고 바로 대체값
+ *   (호출 스레드에서 실행하면 타임아웃 없이 요청 스레드가 묶이므로)
+ * - orTimeout 은 작업을 중단시키지 않음 → Feign 타임아웃(spring.cloud.openfeign.client.config)을 조회 타임아웃에 맞춰 스레드 반환
+ * - 요청 스레드의 Authorization 헤더를 워커 스레드로 전달 (FeignClientConfig 에서 사용)
+ * - 조회마다 타임아웃과 대체값을 지정 → 실패/지연 시 부분 결과로 응답
+ */
+@Slf4j
+@Component
+public class ParallelLookupExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTx;
+
+    public ParallelLookupExecutor(
+            PlatformTransactionManager transactionManager,
+            @Value("${product.parallel-lookup.pool-size:32}") int poolSize,
+            @Value("${product.parallel-lookup.queue-capacity:200}") int queueCapacity) {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "parallel-lookup-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 비동기 조회 시작
+     *
+     * @param name      로그용 조회 이름
+     * @param task      조회 작업
+     * @param timeoutMs 타임아웃(ms), 초과 시 fallback
+     * @param fallback  실패/타임아웃 시 대체값
+     */
+    public <T> CompletableFuture<T> submit(String name, Supplier<T> task, long timeoutMs, T fallback) {
+        String authorization = currentAuthorization();
+
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                String previous = AuthorizationContext.set(authorization);
+                try {
+                    return task.get();
+                } finally {
+                    AuthorizationContext.set(previous);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("병렬 조회 풀 포화 - {}, 대체값 사용 (active: {}, queued: {})",
+                    name, executor.getActiveCount(), executor.getQueue().size());
+            return CompletableFuture.completedFuture(fallback);
+        }
+
+        return future
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("병렬 조회 타임아웃 - {} ({}ms), 대체값 사용", name, timeoutMs);
+                    } else {
+                        log.warn("병렬 조회 실패 - {}, 대체값 사용: {}", name, cause.toString());
+                    }
+                    return fallback;
+                });
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 안에서 조회 (워커 스레드에서 지연 로딩이 필요한 경우)
+     */
+    public <T> Supplier<T> inReadOnlyTx(Supplier<T> task) {
+        return () -> readOnlyTx.execute(status -> task.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ------------ internal --------------
+
+    private static String currentAuthorization() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+        }
+        return AuthorizationContext.get();
+    }
+}
@@ -0,0 +1,95 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.momnect.productservice.command.document.ProductDocument;
+import com.momnect.productservice.command.dto.product.ProductAutocompleteResponse;
+import com.momnect.productservice.common.TtlCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static com.momnect.productservice.command.service.ProductIndexService.INDEX_ALIAS;
+
+/**
+ * 검색어 자동완성
+ * - name.autocomplete / hashtags.autocomplete (edge-ngram) 접두어 매칭, 판매 중 상품만
+ * - 총 건수 계산 없이 name/hashtags 만 읽고, 같은 입력은 짧게 캐시
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductAutocompleteService {
+
+    private static final int MAX_PREFIX_LENGTH = 20;
+    private static final int MAX_SIZE = 20;
+
+    private final ElasticsearchClient esClient;
+
+    // 입력 접두어 → 자동완성 결과 (30초)
+    private final TtlCache<String, ProductAutocompleteResponse> cache = new TtlCache<>(2000, 30_000);
+
+    /**
+     * @param prefix 입력 중인 검색어
+     * @param size   상품명/해시태그 각각 최대 개수
+     */
+    public ProductAutocompleteResponse autocomplete(String prefix, int size) throws IOException {
+        String normalized = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return ProductAutocompleteResponse.builder().names(List.of()).hashtags(List.of()).build();
+        }
+        if (normalized.length() > MAX_PREFIX_LENGTH) {
+            normalized = normalized.substring(0, MAX_PREFIX_LENGTH);
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+
+        String key = normalized + "|" + limit;
+        ProductAutocompleteResponse cached = cache.get(key);
+        if (cached != null) return cached;
+
+        String query = normalized;
+        SearchResponse<ProductDocument> response = esClient.search(s -> s
+                        .index(INDEX_ALIAS)
+                        .size(limit * 3)   // 같은 상품명 중복 제거 여유분
+                        .trackTotalHits(t -> t.enabled(false))
+                        .source(src -> src.filter(f -> f.includes("name", "hashtags")))
+                        .query(q -> q.bool(b -> b
+                                .filter(f -> f.term(t -> t.field("isDeleted").value(false)))
+                                .mustNot(m -> m.term(t -> t.field("tradeStatus").value("SOLD")))
+                                .must(m -> m.multiMatch(mm -> mm
+                                        .query(query)
+                                        .type(TextQueryType.BoolPrefix)
+                                        .fields("name.autocomplete^2", "hashtags.autocomplete"))))),
+                ProductDocument.class);
+
+        Set<String> names = new LinkedHashSet<>();
+        Set<String> hashtags = new LinkedHashSet<>();
+        for (Hit<ProductDocument> hit : response.hits().hits()) {
+            ProductDocument doc = hit.source();
+            if (doc == null) continue;
+
+            if (names.size() < limit && doc.getName() != null) {
+                names.add(doc.getName());
+            }
+            if (doc.getHashtags() != null) {
+                for (String tag : doc.getHashtags()) {
+                    if (hashtags.size() >= limit) break;
+                    if (tag != null && tag.toLowerCase(Locale.ROOT).startsWith(query)) hashtags.add(tag);
+                }
+            }
+        }
+
+        ProductAutocompleteResponse result = ProductAutocompleteResponse.builder()
+                .names(List.copyOf(names))
+                .hashtags(List.copyOf(hashtags))
+                .build();
+        cache.put(key, result);
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+package com.momnect.productservice.command.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momnect.productservice.command.dto.product.ProductBulkCreateResult;
+import com.momnect.productservice.command.dto.product.ProductRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 대량 등록 (판매자 이전 등)
+ * - JSON 배열을 스트리밍으로 읽어 chunk-size 개씩 createProducts 로 등록 (chunk 마다 트랜잭션)
+ * - chunk 가 실패하면 해당 chunk 만 한 건씩 다시 등록해 실패 항목을 골라냄
+ */
+@Slf4j
+@Service
+public class ProductBulkImportService {
+
+    private final ProductService productService;
+    private final ObjectMapper objectMapper;
+
+    private final int chunkSize;
+    private final int maxItems;
+
+    public ProductBulkImportService(
+            ProductService productService,
+            ObjectMapper objectMapper,
+            @Value("${product.bulk-create.chunk-size:100}") int chunkSize,
+            @Value("${product.bulk-create.max-items:10000}") int maxItems) {
+        this.productService = productService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * JSON 배열([ProductRequest, ...]) 스트림 등록
+     *
+     * @param body     요청 본문
+     * @param sellerId 판매자 ID
+     */
+    public ProductBulkCreateResult importJsonArray(InputStream body, Long sellerId) throws IOException {
+        List<Long> createdIds = new ArrayList<>();
+        List<ProductBulkCreateResult.Failure> failures = new ArrayList<>();
+
+        List<ProductRequest> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        int chunkStart = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("요청 본문은 상품 등록 요청의 JSON 배열이어야 합니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (index >= maxItems) {
+                    throw new IllegalArgumentException("한 번에 등록할 수 있는 상품은 최대 " + maxItems + "개입니다.");
+                }
+                chunk.add(parser.readValueAs(ProductRequest.class));
+                index++;
+
+                if (chunk.size() >= chunkSize) {
+                    registerChunk(chunk, chunkStart, sellerId, createdIds, failures);
+                    chunk.clear();
+                    chunkStart = index;
+                }
+            }
+        }
+        registerChunk(chunk, chunkStart, sellerId, createdIds, failures);
+
+        log.info("상품 대량 등록 완료 - sellerId: {}, requested: {}, created: {}, failed: {}",
+                sellerId, index, createdIds.size(), failures.size());
+
+        return ProductBulkCreateResult.builder()
+                .requested(index)
+                .createdIds(createdIds)
+                .failures(failures)
+                .build();
+    }
+
+    // ------------ internal --------------
+
+    private void registerChunk(List<ProductRequest> chunk, int chunkStart, Long sellerId,
+                               List<Long> createdIds, List<ProductBulkCreateResult.Failure> failures) {
+        if (chunk.isEmpty()) return;
+
+        try {
+            createdIds.addAll(productService.createProducts(chunk, sellerId));
+            return;
+        } catch (RuntimeException e) {
+            log.debug("상품 대량 등록 chunk 실패, 한 건씩 재시도 - start: {}, size: {}", chunkStart, chunk.size(), e);
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                createdIds.addAll(productService.createProducts(List.of(chunk.get(i)), sellerId));
+            } catch (RuntimeException e) {
+                failures.add(new ProductBulkCreateResult.Failure(chunkStart + i, e.getMessage()));
+            }
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package com.momnect.productservice.command.service;
 
 import com.momnect.productservice.command.dto.product.ProductCategoryDto;
-import com.momnect.productservice.command.entity.product.ProductCategory;
-import com.momnect.productservice.command.repository.ProductCategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -11,7 +9,6 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,18 +17,29 @@ public class ProductCategoryService {
     private Resource dataSql;
 
     private final JdbcTemplate jdbcTemplate;
-    private final ProductCategoryRepository categoryRepository;
+    private final CategoryTree categoryTree;
 
     /**
-     * 상품 카테고리 전체 트리 조회
+     * 상품 카테고리 전체 트리 조회 (메모리 스냅샷)
      *
      * @return 트리 구조의 카테고리 리스트
      */
     public List<ProductCategoryDto> getCategoryTree() {
-        List<ProductCategory> roots = categoryRepository.findByParentIsNull();
-        return roots.stream()
-                .map(ProductCategoryDto::fromEntity)
-                .collect(Collectors.toList());
+        return categoryTree.roots();
+    }
+
+    /**
+     * 카테고리 트리 ETag (내용 해시)
+     */
+    public String getCategoryTreeEtag() {
+        return categoryTree.etag();
+    }
+
+    /**
+     * 카테고리 트리 최종 수정 시각 (epoch ms)
+     */
+    public long getCategoryTreeLastModified() {
+        return categoryTree.lastModified();
     }
 
     /***
@@ -50,5 +58,8 @@ public class ProductCategoryService {
         } catch (IOException e) {
             throw new RuntimeException("data.sql 실행 중 오류 발생", e);
         }
+
+        // 트리 스냅샷 교체
+        categoryTree.reload();
     }
 }
@@ -0,0 +1,115 @@
+package com.momnect.productservice.command.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 상품 등록 시 자식 행(이미지, 거래지역, 해시태그) JDBC 배치 저장
+ * - 상품 여러 개의 자식 행을 테이블별 배치 한 번으로 INSERT
+ * - 해시태그는 name 기준 upsert 후 조회 한 번으로 id 확보
+ *   · 요청 이름과 저장된 이름을 DB 에서 컬럼 collation 으로 비교 (대소문자/악센트만 다른 "DIY"/"diy" 는 같은 해시태그)
+ * - 호출한 트랜잭션에 참여 (JPA 와 같은 커넥션 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChildWriter {
+
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO tbl_product_image (product_id, image_file_id, sort_order) VALUES (?, ?, ?)";
+    private static final String INSERT_TRADE_AREA_SQL =
+            "INSERT INTO tbl_product_trade_area (product_id, area_id, sort_order) VALUES (?, ?, ?)";
+    // 이미 있으면 아무것도 바꾸지 않음 (IGNORE 와 달리 길이 초과 등 다른 오류는 그대로 실패)
+    private static final String INSERT_HASHTAG_SQL =
+            "INSERT INTO tbl_hashtag (name) VALUES (?) ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)";
+    // 요청 이름 목록(idx, name)을 tbl_hashtag 와 조인 → 비교는 컬럼 collation, 과거 중복 행은 먼저 만든 것
+    private static final String SELECT_HASHTAG_SQL =
+            "SELECT r.idx, MIN(h.id) AS id FROM (%s) r JOIN tbl_hashtag h ON h.name = r.name GROUP BY r.idx";
+    private static final String INSERT_PRODUCT_HASHTAG_SQL =
+            "INSERT INTO tbl_product_hashtag (product_id, hashtag_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 자식 행 일괄 저장
+     *
+     * @param children 저장된 상품 ID 별 자식 값 목록
+     */
+    public void insertAll(List<ProductChildren> children) {
+        if (children.isEmpty()) return;
+
+        List<Object[]> images = new ArrayList<>();
+        List<Object[]> tradeAreas = new ArrayList<>();
+        Set<String> tagNames = new LinkedHashSet<>();
+
+        for (ProductChildren c : children) {
+            int sortOrder = 1;
+            for (Long imageFileId : new LinkedHashSet<>(c.imageFileIds())) {
+                images.add(new Object[]{c.productId(), imageFileId, sortOrder++});
+            }
+            int areaOrder = 1;
+            for (Integer areaId : new LinkedHashSet<>(c.areaIds())) {
+                tradeAreas.add(new Object[]{c.productId(), areaId, areaOrder++});
+            }
+            tagNames.addAll(c.hashtags());
+        }
+
+        if (!images.isEmpty()) jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, images);
+        if (!tradeAreas.isEmpty()) jdbcTemplate.batchUpdate(INSERT_TRADE_AREA_SQL, tradeAreas);
+
+        if (!tagNames.isEmpty()) {
+            Map<String, Long> hashtagIds = upsertHashtags(tagNames);
+
+            List<Object[]> productHashtags = new ArrayList<>();
+            for (ProductChildren c : children) {
+                // 한 상품에 "DIY", "diy" 가 같이 오면 같은 id 라 한 행만
+                Set<Long> ids = new LinkedHashSet<>();
+                for (String tagName : c.hashtags()) {
+                    ids.add(hashtagIds.get(tagName));
+                }
+                for (Long hashtagId : ids) {
+                    productHashtags.add(new Object[]{c.productId(), hashtagId});
+                }
+            }
+            jdbcTemplate.batchUpdate(INSERT_PRODUCT_HASHTAG_SQL, productHashtags);
+        }
+    }
+
+    // 없는 해시태그만 생성하고 전체 name → id 반환
+    private Map<String, Long> upsertHashtags(Collection<String> tagNames) {
+        jdbcTemplate.batchUpdate(INSERT_HASHTAG_SQL, tagNames.stream()
+                .map(name -> new Object[]{name})
+                .toList());
+
+        List<String> names = new ArrayList<>(tagNames);
+        String requested = String.join(" UNION ALL ",
+                Collections.nCopies(names.size(), "SELECT ? AS idx, ? AS name"));
+        Object[] args = new Object[names.size() * 2];
+        for (int i = 0; i < names.size(); i++) {
+            args[i * 2] = i;
+            args[i * 2 + 1] = names.get(i);
+        }
+
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(String.format(SELECT_HASHTAG_SQL, requested),
+                rs -> {
+                    ids.put(names.get(rs.getInt("idx")), rs.getLong("id"));
+                }, args);
+
+        for (String tagName : tagNames) {
+            if (!ids.containsKey(tagName)) {
+                throw new IllegalStateException("해시태그 저장에 실패했습니다: " + tagName);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 상품 하나의 자식 값 (정규화된 값)
+     */
+    public record ProductChildren(Long productId, List<Long> imageFileIds, List<Integer> areaIds,
+                                  List<String> hashtags) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.momnect.productservice.command.document.ProductDocument;
+import com.momnect.productservice.command.entity.area.ProductTradeArea;
+import com.momnect.productservice.command.entity.image.ProductImage;
+import com.momnect.productservice.command.entity.product.Product;
+import com.momnect.productservice.command.entity.product.ProductIndexOutbox;
+import com.momnect.productservice.command.repository.ProductIndexOutboxRepository;
+import com.momnect.productservice.command.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색 색인 파이프라인
+ * - 상품 변경 시 outbox 에 productId 적재 (변경과 같은 트랜잭션)
+ * - 워커가 outbox 를 모아 ES _bulk 로 반영, 실패 건은 재시도 횟수 증가 후 다음 주기에 재시도
+ * - 전체 재색인 중에는 새 인덱스에도 함께 기록 (dual write)
+ */
+@Slf4j
+@Service
+public class ProductIndexService {
+
+    // 검색은 항상 alias 로 접근
+    public static final String INDEX_ALIAS = "products";
+
+    private final ElasticsearchClient esClient;
+    private final ProductRepository productRepository;
+    private final ProductIndexOutboxRepository outboxRepository;
+    private final ImagePathResolver imagePathResolver;
+    private final SimilarProductCache similarProductCache;
+    private final TransactionTemplate readOnlyTx;
+
+    private final int batchSize;
+    private final int maxAttempts;
+
+    // 전체 재색인 중인 새 인덱스 (없으면 null)
+    private volatile String reindexTarget;
+
+    public ProductIndexService(
+            ElasticsearchClient esClient,
+            ProductRepository productRepository,
+            ProductIndexOutboxRepository outboxRepository,
+            ImagePathResolver imagePathResolver,
+            SimilarProductCache similarProductCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${product.indexing.batch-size:500}") int batchSize,
+            @Value("${product.indexing.max-attempts:10}") int maxAttempts) {
+        this.esClient = esClient;
+        this.productRepository = productRepository;
+        this.outboxRepository = outboxRepository;
+        this.imagePathResolver = imagePathResolver;
+        this.similarProductCache = similarProductCache;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 상품 색인 요청 (호출한 트랜잭션에 참여)
+     *
+     * @param productId 변경된 상품 ID
+     */
+    @Transactional
+    public void enqueue(Long productId) {
+        outboxRepository.save(ProductIndexOutbox.builder()
+                .productId(productId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 상품 여러 개 색인 요청 (일괄 등록용)
+     */
+    @Transactional
+    public void enqueueAll(Collection<Long> productIds) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.saveAll(productIds.stream()
+                .map(productId -> ProductIndexOutbox.builder()
+                        .productId(productId)
+                        .createdAt(now)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * outbox 처리 워커
+     * - 주기마다 batch-size 단위로 꺼내 _bulk 요청, 꽉 찬 배치면 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${product.indexing.flush-interval-ms:1000}")
+    public void drainOutbox() {
+        while (true) {
+            List<ProductIndexOutbox> batch =
+                    outboxRepository.findByAttemptsLessThanOrderByIdAsc(maxAttempts, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) return;
+
+            boolean succeeded = indexBatch(batch);
+            if (!succeeded || batch.size() < batchSize) return;
+        }
+    }
+
+    /**
+     * 상품 엔티티 → 색인 문서 변환 (썸네일 경로는 일괄 조회)
+     * - 지연 로딩 컬렉션을 읽으므로 트랜잭션 안에서 호출해야 함
+     */
+    public List<ProductDocument> toDocuments(List<Product> products) {
+        if (products.isEmpty()) return List.of();
+
+        Map<Long, Long> thumbnailIds = new HashMap<>();
+        for (Product p : products) {
+            p.getProductImages().stream()
+                    .min(Comparator.comparingInt(ProductImage::getSortOrder))
+                    .ifPresent(img -> thumbnailIds.put(p.getId(), img.getId().getImageFileId()));
+        }
+        Map<Long, String> paths = imagePathResolver.resolve(thumbnailIds.values());
+
+        return products.stream()
+                .map(p -> {
+                    List<ProductTradeArea> tradeAreas = p.getTradeAreas();
+                    String emd = tradeAreas.isEmpty() ? null : tradeAreas.get(0).getArea().getName();
+                    List<Integer> tradeAreaIds = tradeAreas.stream()
+                            .map(ta -> ta.getId().getAreaId())
+                            .toList();
+
+                    return ProductDocument.fromEntity(p, emd, paths.get(thumbnailIds.get(p.getId())), tradeAreaIds);
+                })
+                .toList();
+    }
+
+    // 전체 재색인 시작/종료 시 dual write 대상 설정
+    void startDualWrite(String indexName) {
+        this.reindexTarget = indexName;
+    }
+
+    void stopDualWrite() {
+        this.reindexTarget = null;
+    }
+
+    // ------------ internal --------------
+
+    private boolean indexBatch(List<ProductIndexOutbox> batch) {
+        Set<Long> productIds = batch.stream()
+                .map(ProductIndexOutbox::getProductId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        List<String> targets = new ArrayList<>();
+        targets.add(INDEX_ALIAS);
+        String dualWriteTarget = reindexTarget;
+        if (dualWriteTarget != null) targets.add(dualWriteTarget);
+
+        try {
+            List<BulkOperation> operations = readOnlyTx.execute(status -> buildOperations(productIds, targets));
+
+            BulkResponse response = esClient.bulk(b -> b.operations(operations));
+
+            // 실패한 상품의 이벤트만 남기고 나머지는 삭제
+            Set<Long> failedProductIds = new HashSet<>();
+            if (response.errors()) {
+                for (BulkResponseItem item : response.items()) {
+                    if (item.error() != null) {
+                        failedProductIds.add(Long.valueOf(item.id()));
+                        log.warn("상품 색인 실패 - productId: {}, index: {}, reason: {}",
+                                item.id(), item.index(), item.error().reason());
+                    }
+                }
+            }
+
+            List<Long> done = new ArrayList<>();
+            List<Long> failed = new ArrayList<>();
+            for (ProductIndexOutbox event : batch) {
+                (failedProductIds.contains(event.getProductId()) ? failed : done).add(event.getId());
+            }
+            if (!done.isEmpty()) outboxRepository.deleteAllByIdInBatch(done);
+            if (!failed.isEmpty()) outboxRepository.incrementAttempts(failed);
+
+            // 다시 색인된 상품의 유사 상품 캐시 삭제
+            productIds.removeAll(failedProductIds);
+            similarProductCache.invalidate(productIds);
+
+            return failed.isEmpty();
+        } catch (Exception e) {
+            log.warn("상품 색인 배치 실패 - size: {}", batch.size(), e);
+            outboxRepository.incrementAttempts(batch.stream().map(ProductIndexOutbox::getId).toList());
+            return false;
+        }
+    }
+
+    private List<BulkOperation> buildOperations(Set<Long> productIds, List<String> targets) {
+        List<Product> products = productRepository.findAllById(productIds);
+        Map<Long, ProductDocument> documents = toDocuments(products).stream()
+                .collect(Collectors.toMap(ProductDocument::getId, doc -> doc));
+
+        List<BulkOperation> operations = new ArrayList<>();
+        for (Long productId : productIds) {
+            ProductDocument doc = documents.get(productId);
+            for (String target : targets) {
+                if (doc != null) {
+                    operations.add(BulkOperation.of(o -> o
+                            .index(i -> i.index(target).id(productId.toString()).document(doc))));
+                } else {
+                    // DB 에서 사라진 상품은 색인에서도 제거
+                    operations.add(BulkOperation.of(o -> o
+                            .delete(d -> d.index(target).id(productId.toString()))));
+                }
+            }
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,121 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.indices.GetIndexTemplateResponse;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+import co.elastic.clients.json.JsonData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import static com.momnect.productservice.command.service.ProductIndexService.INDEX_ALIAS;
+
+/**
+ * 상품 검색 인덱스 템플릿 관리 (기동 시 1회, 여러 번 실행해도 결과 동일)
+ * 1. index template(products, products_*) 이 없거나 버전이 다르면 등록
+ *    - nori 형태소 분석(name/content/hashtags), enum 은 keyword, 자동완성용 edge-ngram 하위 필드
+ *    - 클러스터에 analysis-nori 플러그인 필요
+ * 2. products alias/인덱스가 없으면 products_v{버전} 생성 후 alias 연결
+ * 3. 현재 인덱스 매핑 버전(_meta.templateVersion)이 낮으면 전체 재색인 시작 → 새 인덱스에 템플릿 적용 후 alias 교체
+ */
+@Slf4j
+@Component
+public class ProductIndexTemplateInitializer {
+
+    static final String TEMPLATE_NAME = "products-template";
+    private static final String META_VERSION = "templateVersion";
+
+    private final ElasticsearchClient esClient;
+    private final ProductReindexService productReindexService;
+    private final byte[] templateJson;
+    private final long templateVersion;
+
+    public ProductIndexTemplateInitializer(
+            ElasticsearchClient esClient,
+            ProductReindexService productReindexService,
+            ObjectMapper objectMapper,
+            @Value("classpath:elasticsearch/products-index-template.json") Resource template) {
+        this.esClient = esClient;
+        this.productReindexService = productReindexService;
+        try {
+            this.templateJson = template.getInputStream().readAllBytes();
+            this.templateVersion = objectMapper.readTree(templateJson).path("version").asLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 인덱스 템플릿을 읽을 수 없습니다.", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            ensureTemplate();
+            ensureIndex();
+        } catch (Exception e) {
+            // ES 미기동 등, 다음 기동 또는 관리자 재색인으로 반영
+            log.warn("상품 인덱스 템플릿 초기화 실패", e);
+        }
+    }
+
+    // ------------ internal --------------
+
+    private void ensureTemplate() throws IOException {
+        if (esClient.indices().existsIndexTemplate(e -> e.name(TEMPLATE_NAME)).value()) {
+            GetIndexTemplateResponse current = esClient.indices().getIndexTemplate(g -> g.name(TEMPLATE_NAME));
+            Long version = current.indexTemplates().isEmpty()
+                    ? null : current.indexTemplates().get(0).indexTemplate().version();
+            if (version != null && version == templateVersion) return;
+        }
+
+        esClient.indices().putIndexTemplate(p -> p
+                .withJson(new ByteArrayInputStream(templateJson))
+                .name(TEMPLATE_NAME));
+        log.info("상품 인덱스 템플릿 등록 - name: {}, version: {}", TEMPLATE_NAME, templateVersion);
+    }
+
+    private void ensureIndex() throws IOException {
+        boolean aliasExists = esClient.indices().existsAlias(e -> e.name(INDEX_ALIAS)).value();
+        boolean indexExists = aliasExists || esClient.indices().exists(e -> e.index(INDEX_ALIAS)).value();
+
+        if (!indexExists) {
+            String index = INDEX_ALIAS + "_v" + templateVersion;
+            try {
+                esClient.indices().create(c -> c
+                        .index(index)
+                        .aliases(INDEX_ALIAS, a -> a));
+                log.info("상품 인덱스 생성 - index: {}, alias: {}", index, INDEX_ALIAS);
+            } catch (ElasticsearchException e) {
+                // 다른 인스턴스가 먼저 만든 경우
+                if (!"resource_already_exists_exception".equals(e.error().type())) throw e;
+            }
+            return;
+        }
+
+        Map<String, IndexMappingRecord> mappings = esClient.indices().getMapping(g -> g.index(INDEX_ALIAS)).result();
+        boolean outdated = mappings.values().stream().anyMatch(record -> mappingVersion(record) < templateVersion);
+        if (!outdated) return;
+
+        try {
+            productReindexService.startFullReindex();
+            log.info("상품 인덱스 매핑 버전이 낮아 전체 재색인 시작 - indices: {}, version: {}",
+                    mappings.keySet(), templateVersion);
+        } catch (IllegalStateException e) {
+            log.info("상품 전체 재색인이 이미 진행 중 - 템플릿 버전 {} 은 완료 후 반영", templateVersion);
+        }
+    }
+
+    private static long mappingVersion(IndexMappingRecord record) {
+        if (record.mappings() == null) return 0L;
+        JsonData version = record.mappings().meta().get(META_VERSION);
+        return version != null ? version.to(Long.class) : 0L;
+    }
+}
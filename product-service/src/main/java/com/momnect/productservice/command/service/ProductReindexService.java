@@ -0,0 +1,237 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.momnect.productservice.command.document.ProductDocument;
+import com.momnect.productservice.command.dto.index.ReindexStatusDTO;
+import com.momnect.productservice.command.entity.product.Product;
+import com.momnect.productservice.command.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.momnect.productservice.command.service.ProductIndexService.INDEX_ALIAS;
+
+/**
+ * 상품 전체 재색인 (무중단)
+ * 1. 새 인덱스 생성 (refresh 끔)
+ * 2. 워커 dual write 시작
+ * 3. MySQL 에서 id keyset 페이지로 읽어 _bulk create
+ *    - create 는 이미 있는 문서를 덮어쓰지 않으므로 dual write 로 들어온 최신 문서가 유지됨
+ * 4. refresh 복구 후 alias 를 새 인덱스로 교체하고 기존 인덱스 삭제 (한 번의 요청으로 원자적 처리)
+ *    - 색인 실패 문서가 기준(reindex-max-failures)을 넘으면 교체하지 않고 중단
+ *    - 기준 이하면 실패 문서를 outbox 에 다시 적재한 뒤 교체 (기존 인덱스와 함께 사라지지 않도록)
+ */
+@Slf4j
+@Service
+public class ProductReindexService {
+
+    private static final DateTimeFormatter INDEX_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final int MAX_BULK_RETRIES = 3;
+
+    private final ElasticsearchClient esClient;
+    private final ProductRepository productRepository;
+    private final ProductIndexService productIndexService;
+    private final SimilarProductCache similarProductCache;
+    private final TransactionTemplate readOnlyTx;
+
+    private final int pageSize;
+    private final int maxFailures;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "product-reindex");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private volatile ReindexStatusDTO status;
+
+    public ProductReindexService(
+            ElasticsearchClient esClient,
+            ProductRepository productRepository,
+            ProductIndexService productIndexService,
+            SimilarProductCache similarProductCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${product.indexing.reindex-page-size:1000}") int pageSize,
+            @Value("${product.indexing.reindex-max-failures:100}") int maxFailures) {
+        this.esClient = esClient;
+        this.productRepository = productRepository;
+        this.productIndexService = productIndexService;
+        this.similarProductCache = similarProductCache;
+        this.pageSize = pageSize;
+        this.maxFailures = maxFailures;
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 전체 재색인 시작 (백그라운드 실행)
+     *
+     * @return 시작 시점 상태
+     */
+    public ReindexStatusDTO startFullReindex() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 전체 재색인이 진행 중입니다.");
+        }
+
+        String newIndex = INDEX_ALIAS + "_" + INDEX_SUFFIX.format(LocalDateTime.now());
+        status = ReindexStatusDTO.builder()
+                .indexName(newIndex)
+                .state("RUNNING")
+                .indexedCount(0L)
+                .failedCount(0L)
+                .startedAt(LocalDateTime.now())
+                .build();
+
+        executor.submit(() -> run(newIndex));
+        return status;
+    }
+
+    /**
+     * 마지막 재색인 상태 (실행한 적 없으면 null)
+     */
+    public ReindexStatusDTO getStatus() {
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ------------ internal --------------
+
+    private void run(String newIndex) {
+        try {
+            esClient.indices().create(c -> c
+                    .index(newIndex)
+                    .settings(s -> s.refreshInterval(t -> t.time("-1"))));
+
+            productIndexService.startDualWrite(newIndex);
+
+            long lastId = 0L;
+            long indexed = 0L;
+            Set<Long> failedIds = new LinkedHashSet<>();
+            while (true) {
+                final long cursor = lastId;
+                List<BulkOperation> operations = new ArrayList<>();
+
+                Long pageLastId = readOnlyTx.execute(tx -> {
+                    List<Product> page = productRepository.findByIdGreaterThanOrderByIdAsc(
+                            cursor, PageRequest.of(0, pageSize));
+                    if (page.isEmpty()) return null;
+
+                    for (ProductDocument doc : productIndexService.toDocuments(page)) {
+                        operations.add(BulkOperation.of(o -> o
+                                .create(c -> c.index(newIndex).id(doc.getId().toString()).document(doc))));
+                    }
+                    return page.get(page.size() - 1).getId();
+                });
+                if (pageLastId == null) break;
+
+                failedIds.addAll(bulkWithRetry(operations));
+
+                indexed += operations.size();
+                lastId = pageLastId;
+                status = status.toBuilder().indexedCount(indexed).failedCount((long) failedIds.size()).build();
+            }
+
+            if (failedIds.size() > maxFailures) {
+                throw new IllegalStateException("재색인 실패 문서가 기준을 초과해 alias 교체를 중단합니다. failed: "
+                        + failedIds.size() + ", max: " + maxFailures);
+            }
+            if (!failedIds.isEmpty()) {
+                // dual write 중에 적재 → 교체 전이면 두 인덱스 모두, 교체 후면 alias(새 인덱스)에 반영됨
+                productIndexService.enqueueAll(failedIds);
+                log.warn("재색인 실패 문서 outbox 재적재 - count: {}", failedIds.size());
+            }
+
+            esClient.indices().putSettings(p -> p
+                    .index(newIndex)
+                    .settings(s -> s.refreshInterval(t -> t.time("1s"))));
+            esClient.indices().refresh(r -> r.index(newIndex));
+
+            swapAlias(newIndex);
+            similarProductCache.invalidateAll();
+
+            status = status.toBuilder()
+                    .state("COMPLETED")
+                    .finishedAt(LocalDateTime.now())
+                    .build();
+            log.info("상품 전체 재색인 완료 - index: {}, count: {}", newIndex, indexed);
+        } catch (Exception e) {
+            log.error("상품 전체 재색인 실패 - index: {}", newIndex, e);
+            status = status.toBuilder()
+                    .state("FAILED")
+                    .finishedAt(LocalDateTime.now())
+                    .message(e.getMessage())
+                    .build();
+        } finally {
+            productIndexService.stopDualWrite();
+            running.set(false);
+        }
+    }
+
+    // 실패한 상품 id 반환 (요청 자체 실패는 재시도 후 예외)
+    private List<Long> bulkWithRetry(List<BulkOperation> operations) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                BulkResponse response = esClient.bulk(b -> b.operations(operations));
+                List<Long> failed = new ArrayList<>();
+                if (response.errors()) {
+                    for (BulkResponseItem item : response.items()) {
+                        // 409: dual write 로 이미 최신 문서가 들어가 있음
+                        if (item.error() != null && item.status() != 409) {
+                            log.warn("재색인 문서 실패 - id: {}, reason: {}", item.id(), item.error().reason());
+                            failed.add(Long.valueOf(item.id()));
+                        }
+                    }
+                }
+                return failed;
+            } catch (IOException e) {
+                if (attempt >= MAX_BULK_RETRIES) throw e;
+                log.warn("재색인 bulk 요청 실패, 재시도 {}/{}", attempt, MAX_BULK_RETRIES, e);
+                Thread.sleep(1000L * attempt);
+            }
+        }
+    }
+
+    // alias 를 새 인덱스로 옮기고 기존 인덱스 삭제 (기존이 alias 가 아닌 단일 인덱스여도 처리)
+    private void swapAlias(String newIndex) throws IOException {
+        List<String> oldIndices = new ArrayList<>();
+        if (esClient.indices().existsAlias(e -> e.name(INDEX_ALIAS)).value()) {
+            oldIndices.addAll(esClient.indices().getAlias(g -> g.name(INDEX_ALIAS)).result().keySet());
+        } else if (esClient.indices().exists(e -> e.index(INDEX_ALIAS)).value()) {
+            oldIndices.add(INDEX_ALIAS);
+        }
+
+        esClient.indices().updateAliases(u -> {
+            u.actions(a -> a.add(add -> add.index(newIndex).alias(INDEX_ALIAS)));
+            for (String old : oldIndices) {
+                if (!old.equals(newIndex)) {
+                    u.actions(a -> a.removeIndex(r -> r.index(old)));
+                }
+            }
+            return u;
+        });
+    }
+}
@@ -5,11 +5,10 @@ import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
-import co.elastic.clients.elasticsearch._types.query_dsl.NumberRangeQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
-import com.momnect.productservice.command.client.FileClient;
 import com.momnect.productservice.command.client.ReviewClient;
 import com.momnect.productservice.command.client.UserClient;
 import com.momnect.productservice.command.client.dto.ChildDTO;
@@ -19,17 +18,11 @@ import com.momnect.productservice.command.client.dto.UserDTO;
 import com.momnect.productservice.command.document.ProductDocument;
 import com.momnect.productservice.command.dto.image.ProductImageDTO;
 import com.momnect.productservice.command.dto.product.*;
-import com.momnect.productservice.command.entity.area.Area;
-import com.momnect.productservice.command.entity.area.ProductTradeArea;
-import com.momnect.productservice.command.entity.area.ProductTradeAreaId;
-import com.momnect.productservice.command.entity.hashtag.Hashtag;
-import com.momnect.productservice.command.entity.hashtag.ProductHashtag;
-import com.momnect.productservice.command.entity.hashtag.ProductHashtagId;
 import com.momnect.productservice.command.entity.image.ProductImage;
-import com.momnect.productservice.command.entity.image.ProductImageId;
 import com.momnect.productservice.command.entity.product.*;
 import com.momnect.productservice.command.repository.*;
 import com.momnect.productservice.common.ApiResponse;
+import com.momnect.productservice.common.TtlCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
@@ -43,30 +36,65 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
-    private final FileClient fileClient;
+    private static final int SIMILAR_MAX_SIZE = 30;
+
     private final UserClient userClient;
     private final ReviewClient reviewClient;
 
     private final ProductRepository productRepository;
     private final ProductCategoryRepository categoryRepository;
-    private final ProductImageRepository productImageRepository;
-    private final AreaRepository areaRepository;
-    private final ProductTradeAreaRepository productTradeAreaRepository;
-    private final HashtagRepository hashtagRepository;
     private final WishlistRepository wishlistRepository;
 
     private final ElasticsearchClient esClient;
 
+    private final ImagePathResolver imagePathResolver;
+    private final HomeSectionSnapshot homeSectionSnapshot;
+    private final ProductViewCounter productViewCounter;
+    private final ProductIndexService productIndexService;
+    private final AreaRegistry areaRegistry;
+    private final ProductChildWriter productChildWriter;
+    private final WishlistIndex wishlistIndex;
+    private final ParallelLookupExecutor parallelLookupExecutor;
+    private final RecommendationEngine recommendationEngine;
+    private final UserTradeStatsService userTradeStatsService;
+    private final CategoryTree categoryTree;
+    private final SimilarProductCache similarProductCache;
+
+    // tbl_hashtag.name 컬럼 길이
+    private static final int HASHTAG_MAX_LENGTH = 50;
+
+    // 검색 첫 페이지 캐시 (동일 조건 반복 요청용, 짧은 TTL)
+    private final TtlCache<String, SearchResult> searchResultCache = new TtlCache<>(1000, 10_000);
+
+    // 카테고리 탐색 facet 캐시 (카테고리 × 판매완료 제외 여부)
+    private final TtlCache<String, ProductSearchFacets> facetCache = new TtlCache<>(500, 60_000);
+
+    // 유저별 자녀 연령대 (자녀 변경 시 evictAgeBuckets 로 삭제, 나이가 바뀌는 경우는 TTL 로 반영)
+    private final TtlCache<Long, Set<RecommendedAge>> ageBucketCache = new TtlCache<>(10_000, 30 * 60_000);
+
+    // 연령대 × 지역 추천 결과 (찜 여부 제외)
+    private final TtlCache<String, List<ProductSummaryDto>> recommendationCache = new TtlCache<>(200, 30_000);
 
     @Value("${ftp.base-url}")
     private String ftpBaseUrl;
 
+    // 상품 상세 병렬 조회 타임아웃 (ms)
+    @Value("${product.parallel-lookup.detail.user-timeout-ms:1500}")
+    private long detailUserTimeoutMs;
+
+    @Value("${product.parallel-lookup.detail.review-timeout-ms:1000}")
+    private long detailReviewTimeoutMs;
+
+    @Value("${product.parallel-lookup.detail.db-timeout-ms:1000}")
+    private long detailDbTimeoutMs;
+
     private String toAbsoluteUrl(String relativePath) {
         if (relativePath == null || relativePath.isEmpty()) return null;
         return ftpBaseUrl + relativePath;
@@ -91,6 +119,7 @@ public class ProductService {
                 .build();
 
         wishlistRepository.save(wishlist);
+        wishlistIndex.added(userId, productId);
     }
 
     /**
@@ -100,6 +129,7 @@ public class ProductService {
         Wishlist wishlist = wishlistRepository.findByProductIdAndUserId(productId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("찜한 내역이 없습니다."));
         wishlistRepository.delete(wishlist);
+        wishlistIndex.removed(userId, productId);
     }
 
     /**
@@ -148,7 +178,7 @@ public class ProductService {
 
         // 현재 유저가 찜한 상품들
         Set<Long> wishlistIds = (userId != null)
-                ? wishlistRepository.findProductIdsByUserId(userId)
+                ? wishlistIndex.productIdsOf(userId)
                 : Collections.emptySet();
 
         // 변환
@@ -170,25 +200,129 @@ public class ProductService {
                 .toList();
     }
 
+    /**
+     * 상품 기준 유사 상품 조회 (more_like_this)
+     * - name/content/hashtags 유사도, 같은 카테고리 + 같은 추천 연령대, 판매 중 상품만
+     * - 결과는 상품별로 캐시 (해당 상품 재색인 시 삭제), 찜 여부만 요청마다 반영
+     */
+    public List<ProductSummaryDto> getSimilarProductsById(Long productId, Long userId, int size) throws IOException {
+        int limit = Math.max(1, Math.min(size, SIMILAR_MAX_SIZE));
+
+        List<ProductSummaryDto> similar = similarProductCache.get(productId);
+        if (similar == null) {
+            long generation = similarProductCache.generation();
+            similar = searchSimilar(productId);
+            similarProductCache.put(productId, similar, generation);
+        }
+
+        Set<Long> wishlistIds = userId != null ? wishlistIndex.productIdsOf(userId) : Set.of();
+        return withWishlistFlags(similar.subList(0, Math.min(limit, similar.size())), wishlistIds);
+    }
+
+    private List<ProductSummaryDto> searchSimilar(Long productId) throws IOException {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
+
+        // 카테고리가 없는 상품은 카테고리 조건 없이 검색
+        Long categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+
+        SearchResponse<ProductDocument> response = esClient.search(s -> s
+                        .index(ProductIndexService.INDEX_ALIAS)
+                        .size(SIMILAR_MAX_SIZE)
+                        .trackTotalHits(t -> t.enabled(false))
+                        .query(q -> q.bool(b -> {
+                            b.must(m -> m.moreLikeThis(mlt -> mlt
+                                            .fields("name", "content", "hashtags")
+                                            .like(l -> l.document(d -> d.id(String.valueOf(productId))))
+                                            .minTermFreq(1)
+                                            .minDocFreq(1)
+                                            .maxQueryTerms(25)
+                                            .minimumShouldMatch("30%")))
+                                    .filter(f -> f.term(t -> t.field("isDeleted").value(false)))
+                                    .filter(f -> f.term(t -> t.field("recommendedAge")
+                                            .value(product.getRecommendedAge().name())))
+                                    .mustNot(m -> m.term(t -> t.field("tradeStatus").value("SOLD")));
+                            if (categoryId != null) {
+                                b.filter(f -> f.term(t -> t.field("categoryId").value(categoryId)));
+                            }
+                            return b;
+                        })),
+                ProductDocument.class);
+
+        return response.hits().hits().stream()
+                .map(Hit::source)
+                .filter(Objects::nonNull)
+                .map(doc -> {
+                    ProductSummaryDto dto = ProductSummaryDto.fromDocument(doc);
+                    dto.setThumbnailUrl(toAbsoluteUrl(doc.getThumbnailImagePath()));
+                    return dto;
+                })
+                .toList();
+    }
+
     /**
      * 홈 상품 조회
      * - 인기 상품
      * - 추천 상품
      * - 신규 상품
+     * 인기/신규/찜순 섹션은 백그라운드 스냅샷을 사용하고, 요청 시에는 찜 여부만 덧씌움
      */
     public ProductSectionsResponse getHomeProductSections(Long userId) {
-        List<ProductSummaryDto> popular = getPopularTop30(userId);
-        List<ProductSummaryDto> latest = getNewTop30(userId);
-        List<ProductSummaryDto> recommended = getRecommendedTop30(userId);
+        return getHomeProductSections(userId, List.of());
+    }
 
+    /**
+     * 홈 상품 조회 (추천 섹션은 거래지역 우선)
+     *
+     * @param areaIds 추천 시 우선할 거래지역 ID (없으면 빈 리스트)
+     */
+    public ProductSectionsResponse getHomeProductSections(Long userId, List<Integer> areaIds) {
+        HomeSectionSnapshot.Sections sections = homeSectionSnapshot.get();
+        if (sections == null) {
+            // 기동 직후 스냅샷이 아직 없으면 직접 생성
+            sections = buildHomeSections();
+            homeSectionSnapshot.swap(sections);
+        }
+
+        Set<Long> wishlistIds = userId != null
+                ? wishlistIndex.productIdsOf(userId)
+                : Set.of();
+
+        // 자녀 연령대가 있으면 개인화 추천, 없으면 스냅샷의 찜순 → 인기 순으로 폴백
+        Set<RecommendedAge> ageBuckets = resolveAgeBuckets(userId);
+        List<ProductSummaryDto> recommended = !ageBuckets.isEmpty()
+                ? recommendByAge(ageBuckets, areaIds, wishlistIds, userId)
+                : withWishlistFlags(
+                sections.likeRanked().isEmpty() ? sections.popular() : sections.likeRanked(), wishlistIds);
 
         return ProductSectionsResponse.builder()
-                .popular(popular)
-                .latest(latest)
+                .popular(withWishlistFlags(sections.popular(), wishlistIds))
+                .latest(withWishlistFlags(sections.latest(), wishlistIds))
                 .recommended(recommended)
                 .build();
     }
 
+    /**
+     * 홈 섹션 스냅샷 생성 (찜 여부 제외)
+     */
+    @Transactional(readOnly = true)
+    public HomeSectionSnapshot.Sections buildHomeSections() {
+        return new HomeSectionSnapshot.Sections(
+                getPopularTop30(null),
+                getNewTop30(null),
+                getLikeRankedTop30(null),
+                System.currentTimeMillis());
+    }
+
+    // 스냅샷 DTO는 공유 객체이므로 복사본에 찜 여부 설정
+    private List<ProductSummaryDto> withWishlistFlags(List<ProductSummaryDto> dtos, Set<Long> wishlistIds) {
+        return dtos.stream()
+                .map(dto -> dto.toBuilder()
+                        .inWishlist(wishlistIds.contains(dto.getId()))
+                        .build())
+                .toList();
+    }
+
     /**
      * 인기상품: viewCount DESC, createdAt DESC
      */
@@ -214,87 +348,267 @@ public class ProductService {
      * - 없거나 자녀정보가 없으면 기존 "찜수 TOP N → 인기 Top30" 로직 유지
      */
     public List<ProductSummaryDto> getRecommendedTop30(Long userId) {
-        // 1) userId 있으면 자녀정보로 연령대 버킷 수집 (별도 함수 없이 이 메서드 안에서 처리)
-        Set<RecommendedAge> ageBuckets = new HashSet<>();
-        if (userId != null) {
-            try {
-                ApiResponse<List<ChildDTO>> resp = userClient.getChildren();
-
-                List<ChildDTO> children =
-                        Optional.ofNullable(resp)
-                                .map(com.momnect.productservice.common.ApiResponse::getData)
-                                .orElse(java.util.Collections.emptyList());
-
-                System.out.println("children: " + children);
-
-                LocalDate today = java.time.LocalDate.now();
-                for (var child : children) {
-                    LocalDate birthDate = child.getBirthDate();
-                    long months = ChronoUnit.MONTHS.between(birthDate, today);
-                    long years = ChronoUnit.YEARS.between(birthDate, today);
-                    if (months >= 0) {
-                        if (months < 6) ageBuckets.add(RecommendedAge.MONTH_0_6);
-                        else if (months < 12) ageBuckets.add(RecommendedAge.MONTH_6_12);
-                        else if (years < 2) ageBuckets.add(RecommendedAge.YEAR_1_2);
-                        else if (years < 4) ageBuckets.add(RecommendedAge.YEAR_2_4);
-                        else if (years < 6) ageBuckets.add(RecommendedAge.YEAR_4_6);
-                        else if (years < 8) ageBuckets.add(RecommendedAge.YEAR_6_8);
-                        else ageBuckets.add(RecommendedAge.OVER_8);
-                    }
+        // 1) userId 있으면 자녀정보로 연령대 버킷 수집
+        Set<RecommendedAge> ageBuckets = resolveAgeBuckets(userId);
+
+        // ageBuckets가 비어있지 않은 경우
+        if (!ageBuckets.isEmpty()) {
+            return recommendByAge(ageBuckets, List.of(), wishlistIndex.productIdsOf(userId), userId);
+        }
+
+        // 2) 기존 랭킹 로직 (찜수 TOP N → 인기 Top30)
+        List<ProductSummaryDto> likeRanked = getLikeRankedTop30(userId);
+        if (!likeRanked.isEmpty()) {
+            return likeRanked;
+        }
+
+        // fallback → 인기 Top30
+        return getPopularTop30(userId);
+    }
+
+    /**
+     * 유저의 자녀 연령대 캐시 삭제 (자녀 등록/수정/삭제 시 user-service 에서 호출)
+     */
+    public void evictAgeBuckets(Long userId) {
+        if (userId != null) ageBucketCache.invalidate(userId);
+    }
+
+    // 자녀 생년월일 → 추천 연령대 버킷 (비로그인/유저서비스 실패 시 빈 Set), 성공한 결과만 캐시
+    private Set<RecommendedAge> resolveAgeBuckets(Long userId) {
+        if (userId == null) return Set.of();
+
+        Set<RecommendedAge> cached = ageBucketCache.get(userId);
+        if (cached != null) return cached;
+
+        Set<RecommendedAge> ageBuckets = EnumSet.noneOf(RecommendedAge.class);
+        try {
+            ApiResponse<List<ChildDTO>> resp = userClient.getChildren();
+
+            List<ChildDTO> children =
+                    Optional.ofNullable(resp)
+                            .map(com.momnect.productservice.common.ApiResponse::getData)
+                            .orElse(java.util.Collections.emptyList());
+
+            LocalDate today = java.time.LocalDate.now();
+            for (var child : children) {
+                LocalDate birthDate = child.getBirthDate();
+                long months = ChronoUnit.MONTHS.between(birthDate, today);
+                long years = ChronoUnit.YEARS.between(birthDate, today);
+                if (months >= 0) {
+                    if (months < 6) ageBuckets.add(RecommendedAge.MONTH_0_6);
+                    else if (months < 12) ageBuckets.add(RecommendedAge.MONTH_6_12);
+                    else if (years < 2) ageBuckets.add(RecommendedAge.YEAR_1_2);
+                    else if (years < 4) ageBuckets.add(RecommendedAge.YEAR_2_4);
+                    else if (years < 6) ageBuckets.add(RecommendedAge.YEAR_4_6);
+                    else if (years < 8) ageBuckets.add(RecommendedAge.YEAR_6_8);
+                    else ageBuckets.add(RecommendedAge.OVER_8);
                 }
-            } catch (Exception ignore) {
-                // 유저서비스 실패 시 필터 없이 아래 랭킹 로직으로 폴백
             }
+        } catch (Exception ignore) {
+            // 유저서비스 실패 시 필터 없이 랭킹 로직으로 폴백 (캐시하지 않음)
+            return Set.of();
         }
 
-        // ageBuckets가 비어있지 않은 경우
-        if (!ageBuckets.isEmpty()) {
-            System.out.println("자녀 추천 -- ageBuckets: " + ageBuckets);
+        Set<RecommendedAge> result = Collections.unmodifiableSet(ageBuckets);
+        ageBucketCache.put(userId, result);
+        return result;
+    }
+
+    /**
+     * 연령대(× 거래지역) 추천 Top30
+     * - 추천 엔진의 후보 풀에서 점수 순 ID 를 받아 DTO 로 변환, 같은 조건은 짧게 캐시
+     * - 후보 풀이 아직 없으면 기존 DB 조회로 대체
+     */
+    private List<ProductSummaryDto> recommendByAge(Set<RecommendedAge> ageBuckets, List<Integer> areaIds,
+                                                   Set<Long> wishlistIds, Long userId) {
+        String cacheKey = sortedKey(ageBuckets) + "|" + sortedKey(areaIds);
+        List<ProductSummaryDto> ranked = recommendationCache.get(cacheKey);
+
+        if (ranked == null) {
+            List<Long> ids = recommendationEngine.recommend(ageBuckets, areaIds, 30);
+            if (ids == null) {
+                return getAgeRecommendedTop30(ageBuckets, userId);
+            }
 
-            // IN 한 번에 조회 (DB에서 createdAt DESC → viewCount DESC 정렬까지 처리)
-            List<Product> candidates =
-                    productRepository.findTop100ByIsDeletedFalseAndTradeStatusNotAndRecommendedAgeInOrderByCreatedAtDescViewCountDesc(
-                            TradeStatus.SOLD, ageBuckets
-                    );
+            Map<Long, Integer> order = new HashMap<>();
+            for (int i = 0; i < ids.size(); i++) order.put(ids.get(i), i);
 
-            // 안전 필터 + 상위 30개만
-            List<Product> top30 = candidates.stream()
+            // 풀 생성 이후 판매완료/삭제된 상품 제외
+            List<Product> products = productRepository.findByIdIn(ids).stream()
                     .filter(p -> !Boolean.TRUE.equals(p.getIsDeleted()) && p.getTradeStatus() != TradeStatus.SOLD)
-                    .limit(30)
-                    .toList();
+                    .collect(Collectors.toCollection(ArrayList::new));
+            products.sort(Comparator.comparingInt(p -> order.getOrDefault(p.getId(), Integer.MAX_VALUE)));
 
-            return toProductSummaryDtos(top30, userId);
+            ranked = toProductSummaryDtos(products, null);
+            recommendationCache.put(cacheKey, ranked);
         }
 
-        // 3) 기존 랭킹 로직 (찜수 TOP N → 인기 Top30)
-        java.util.List<Long> topLikeIds = wishlistRepository.findTopProductIdsByLikeCount(org.springframework.data.domain.PageRequest.of(0, 30));
-        if (!topLikeIds.isEmpty()) {
-            java.util.List<Product> likeRanked = productRepository.findByIdIn(topLikeIds).stream()
-                    .filter(p -> !java.lang.Boolean.TRUE.equals(p.getIsDeleted()) && p.getTradeStatus() != TradeStatus.SOLD)
-                    .toList();
+        return withWishlistFlags(ranked, wishlistIds);
+    }
+
+    // 자녀 연령대 버킷 기반 추천 Top30
+    private List<ProductSummaryDto> getAgeRecommendedTop30(Set<RecommendedAge> ageBuckets, Long userId) {
+        // IN 한 번에 조회 (DB에서 createdAt DESC → viewCount DESC 정렬까지 처리)
+        List<Product> candidates =
+                productRepository.findTop100ByIsDeletedFalseAndTradeStatusNotAndRecommendedAgeInOrderByCreatedAtDescViewCountDesc(
+                        TradeStatus.SOLD, ageBuckets
+                );
+
+        // 안전 필터 + 상위 30개만
+        List<Product> top30 = candidates.stream()
+                .filter(p -> !Boolean.TRUE.equals(p.getIsDeleted()) && p.getTradeStatus() != TradeStatus.SOLD)
+                .limit(30)
+                .toList();
 
-            java.util.Map<Long, Integer> order = new java.util.HashMap<>();
-            for (int i = 0; i < topLikeIds.size(); i++) order.put(topLikeIds.get(i), i);
+        return toProductSummaryDtos(top30, userId);
+    }
 
-            likeRanked = new java.util.ArrayList<>(likeRanked);
-            likeRanked.sort(java.util.Comparator.comparingInt(p -> order.getOrDefault(p.getId(), Integer.MAX_VALUE)));
-            return toProductSummaryDtos(likeRanked, userId);
+    // 찜수 TOP30 (찜 데이터가 없으면 빈 리스트)
+    private List<ProductSummaryDto> getLikeRankedTop30(Long userId) {
+        java.util.List<Long> topLikeIds = wishlistIndex.topProductIds(30);
+        if (topLikeIds.isEmpty()) {
+            return List.of();
         }
 
-        // fallback → 인기 Top30
-        return getPopularTop30(userId);
+        java.util.List<Product> likeRanked = productRepository.findByIdIn(topLikeIds).stream()
+                .filter(p -> !java.lang.Boolean.TRUE.equals(p.getIsDeleted()) && p.getTradeStatus() != TradeStatus.SOLD)
+                .toList();
+
+        java.util.Map<Long, Integer> order = new java.util.HashMap<>();
+        for (int i = 0; i < topLikeIds.size(); i++) order.put(topLikeIds.get(i), i);
+
+        likeRanked = new java.util.ArrayList<>(likeRanked);
+        likeRanked.sort(java.util.Comparator.comparingInt(p -> order.getOrDefault(p.getId(), Integer.MAX_VALUE)));
+        return toProductSummaryDtos(likeRanked, userId);
     }
 
+    /**
+     * 상품 검색 (page/size 기반)
+     * - 첫 페이지는 정규화한 검색 조건 기준으로 짧게 캐시 (찜 여부는 요청마다 덧씌움)
+     */
     public Page<ProductSummaryDto> searchProducts(ProductSearchRequest request, Long userId) throws IOException {
         int page = request.getPage() != null ? request.getPage() : 0;
         int size = request.getSize() != null ? request.getSize() : 20;
 
-        // 필수값 검증 (query 또는 categoryId는 반드시 하나 필요)
+        validateSearchRequest(request);
+
+        String cacheKey = page == 0 ? searchCacheKey("page", request, size) : null;
+        SearchResult result = cacheKey != null ? searchResultCache.get(cacheKey) : null;
+
+        if (result == null) {
+            // 검색 실행
+            SearchResponse<ProductDocument> response = esClient.search(s -> s
+                            .index("products")
+                            .from(page * size)
+                            .size(size)
+                            .query(q -> q.bool(buildSearchQuery(request)))
+                            .sort(searchSortOptions(request.getSort())),
+                    ProductDocument.class);
+
+            result = new SearchResult(toSearchSummaries(response.hits().hits()), response.hits().total().value(), null, null);
+            if (cacheKey != null) searchResultCache.put(cacheKey, result);
+        }
+
+        List<ProductSummaryDto> contents = withWishlistFlags(result.contents(), searchWishlistIds(result.contents(), userId));
+
+        return new PageImpl<>(contents, PageRequest.of(page, size), result.total());
+    }
+
+    /**
+     * 상품 검색 (커서 기반)
+     * - search_after + (정렬 필드, id) tiebreaker 로 깊은 페이지도 일정한 비용
+     * - 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+     */
+    public ProductCursorResponse searchProductsByCursor(ProductSearchRequest request, Long userId) throws IOException {
+        int size = request.getSize() != null ? request.getSize() : 20;
+
+        validateSearchRequest(request);
+
+        SortOption sort = request.getSort() != null ? request.getSort() : SortOption.LATEST;
+        List<FieldValue> searchAfter = (request.getCursor() == null || request.getCursor().isBlank())
+                ? null
+                : SearchCursorCodec.decode(request.getCursor(), sort);
+
+        // facet 은 첫 페이지에서만 계산
+        boolean withFacets = Boolean.TRUE.equals(request.getIncludeFacets()) && searchAfter == null;
+
+        String cacheKey = searchAfter == null ? searchCacheKey(withFacets ? "cursor-facets" : "cursor", request, size) : null;
+        SearchResult result = cacheKey != null ? searchResultCache.get(cacheKey) : null;
+
+        if (result == null) {
+            Map<String, Query> facetFilters = buildFacetFilters(request);
+
+            // 키워드 없는 카테고리 탐색은 facet 만 따로 캐시 → 정렬/크기가 달라도 집계 재사용
+            String facetKey = withFacets ? facetCacheKey(request, facetFilters) : null;
+            ProductSearchFacets cachedFacets = facetKey != null ? facetCache.get(facetKey) : null;
+            boolean aggregate = withFacets && cachedFacets == null;
+
+            // 다음 페이지 존재 여부 확인용으로 1건 더 조회, 전체 건수는 세지 않음
+            SearchResponse<ProductDocument> response = esClient.search(s -> {
+                s.index("products")
+                        .size(size + 1)
+                        .trackTotalHits(t -> t.enabled(false))
+                        .sort(searchSortOptions(sort));
+                if (aggregate) {
+                    // 집계는 기본 조건 위에서, facet 필터는 hit 에만 post_filter 로 적용
+                    List<Query> allFilters = List.copyOf(facetFilters.values());
+                    s.query(q -> q.bool(buildBaseQuery(request).build()))
+                            .postFilter(q -> q.bool(b -> b.filter(allFilters)))
+                            .aggregations(SearchFacetSupport.buildAggregations(facetFilters));
+                } else {
+                    s.query(q -> q.bool(buildSearchQuery(request)));
+                }
+                if (searchAfter != null) {
+                    s.searchAfter(searchAfter);
+                }
+                return s;
+            }, ProductDocument.class);
+
+            List<Hit<ProductDocument>> hits = response.hits().hits();
+            boolean hasNext = hits.size() > size;
+            List<Hit<ProductDocument>> pageHits = hasNext ? hits.subList(0, size) : hits;
+            String nextCursor = hasNext
+                    ? SearchCursorCodec.encode(sort, pageHits.get(pageHits.size() - 1).sort())
+                    : null;
+
+            ProductSearchFacets facets = cachedFacets;
+            if (aggregate) {
+                facets = SearchFacetSupport.parse(response.aggregations());
+                if (facetKey != null) facetCache.put(facetKey, facets);
+            }
+
+            result = new SearchResult(toSearchSummaries(pageHits), -1, nextCursor, facets);
+            if (cacheKey != null) searchResultCache.put(cacheKey, result);
+        }
+
+        List<ProductSummaryDto> contents = withWishlistFlags(result.contents(), searchWishlistIds(result.contents(), userId));
+
+        return ProductCursorResponse.builder()
+                .content(contents)
+                .nextCursor(result.nextCursor())
+                .hasNext(result.nextCursor() != null)
+                .size(size)
+                .facets(result.facets())
+                .build();
+    }
+
+    // 필수값 검증 (query 또는 categoryId는 반드시 하나 필요)
+    private void validateSearchRequest(ProductSearchRequest request) {
         if ((request.getQuery() == null || request.getQuery().isBlank())
                 && request.getCategoryId() == null) {
             throw new IllegalArgumentException("검색 조건(query 또는 categoryId) 중 하나는 필수입니다.");
         }
+    }
 
+    // 검색 조건 → ES BoolQuery (기본 조건 + facet 필터 전체)
+    private BoolQuery buildSearchQuery(ProductSearchRequest request) {
+        BoolQuery.Builder boolQuery = buildBaseQuery(request);
+        buildFacetFilters(request).values().forEach(boolQuery::must);
+        return boolQuery.build();
+    }
+
+    // facet 집계 대상이 아닌 기본 조건 (삭제 여부, 판매완료 제외, 키워드)
+    private BoolQuery.Builder buildBaseQuery(ProductSearchRequest request) {
         // BoolQuery 시작
         BoolQuery.Builder boolQuery = new BoolQuery.Builder()
                 .must(m -> m.term(t -> t.field("isDeleted").value(false)));
@@ -312,89 +626,92 @@ public class ProductService {
                     .minimumShouldMatch("1");
         }
 
-        // 카테고리
+        return boolQuery;
+    }
+
+    // facet 별 선택 필터 (선택하지 않은 facet 은 포함하지 않음)
+    private Map<String, Query> buildFacetFilters(ProductSearchRequest request) {
+        Map<String, Query> filters = new LinkedHashMap<>();
+
+        // 카테고리 (상위 카테고리면 하위 카테고리 전체 포함)
         if (request.getCategoryId() != null) {
-            boolQuery.must(m -> m.term(t -> t.field("categoryId").value(request.getCategoryId())));
+            Set<Long> categoryIds = categoryTree.descendantIdsOf(request.getCategoryId());
+            filters.put(SearchFacetSupport.FACET_CATEGORY, categoryIds.size() == 1
+                    ? Query.of(q -> q.term(t -> t.field("categoryId").value(request.getCategoryId())))
+                    : Query.of(q -> q.terms(t -> t.field("categoryId")
+                    .terms(ts -> ts.value(categoryIds.stream()
+                            .sorted()
+                            .map(FieldValue::of)
+                            .toList())))));
         }
 
-        // 가격 범위 (NumberRangeQuery 사용)
+        // 가격 범위
         if (request.getPriceMin() != null || request.getPriceMax() != null) {
-            NumberRangeQuery.Builder priceRange = new NumberRangeQuery.Builder().field("price");
-
-            if (request.getPriceMin() != null) {
-                priceRange.gte(request.getPriceMin().doubleValue());
-            }
-            if (request.getPriceMax() != null) {
-                priceRange.lte(request.getPriceMax().doubleValue());
-            }
-
-            boolQuery.must(m -> m.range(r -> r.number(priceRange.build())));
+            filters.put(SearchFacetSupport.FACET_PRICE,
+                    SearchFacetSupport.priceRangeQuery(request.getPriceMin(), request.getPriceMax()));
         }
 
         // 추천 연령대 (enum → name)
         if (request.getAgeGroups() != null && !request.getAgeGroups().isEmpty()) {
-            boolQuery.must(m -> m.terms(t -> t.field("recommendedAge.keyword")
+            filters.put(SearchFacetSupport.FACET_AGE, Query.of(q -> q.terms(t -> t.field("recommendedAge")
                     .terms(ts -> ts.value(request.getAgeGroups().stream()
                             .map(Enum::name)
                             .map(FieldValue::of)
-                            .toList()))));
+                            .toList())))));
         }
 
         // 지역
         if (request.getAreaIds() != null && !request.getAreaIds().isEmpty()) {
-            boolQuery.must(m -> m.terms(t -> t.field("tradeAreaIds")
+            filters.put(SearchFacetSupport.FACET_AREA, Query.of(q -> q.terms(t -> t.field("tradeAreaIds")
                     .terms(ts -> ts.value(request.getAreaIds().stream()
                             .map(FieldValue::of)
-                            .toList()))));
+                            .toList())))));
         }
 
         // 상태 (NEW, USED)
         if (request.getStatuses() != null && !request.getStatuses().isEmpty()) {
-            boolQuery.must(m -> m.terms(t -> t.field("productStatus.keyword")
+            filters.put(SearchFacetSupport.FACET_STATUS, Query.of(q -> q.terms(t -> t.field("productStatus")
                     .terms(ts -> ts.value(request.getStatuses().stream()
                             .map(Enum::name)
                             .map(v -> FieldValue.of(JsonData.of(v)))
-                            .toList()))));
-        }
-
-        // 정렬 옵션 매핑
-        SortOptions sortOption;
-        switch (request.getSort()) {
-            case LATEST -> sortOption = new SortOptions.Builder()
-                    .field(f -> f.field("createdAt").order(SortOrder.Desc)).build();
-            case PRICE_ASC -> sortOption = new SortOptions.Builder()
-                    .field(f -> f.field("price").order(SortOrder.Asc)).build();
-            case PRICE_DESC -> sortOption = new SortOptions.Builder()
-                    .field(f -> f.field("price").order(SortOrder.Desc)).build();
-            default -> sortOption = new SortOptions.Builder()
-                    .field(f -> f.field("createdAt").order(SortOrder.Desc)).build();
+                            .toList())))));
         }
 
-        // 검색 실행
-        SearchResponse<ProductDocument> response = esClient.search(s -> s
-                        .index("products")
-                        .from(page * size)
-                        .size(size)
-                        .query(q -> q.bool(boolQuery.build()))
-                        .sort(sortOption),
-                ProductDocument.class);
+        return filters;
+    }
 
-        Set<Long> wishlistProductIds;
-        if (userId != null) {
-            wishlistProductIds = wishlistRepository.findProductIdsByUserId(userId);
-        } else {
-            wishlistProductIds = Collections.emptySet();
+    // 정렬 옵션 매핑 + 같은 값끼리 순서가 고정되도록 id tiebreaker 추가
+    private List<SortOptions> searchSortOptions(SortOption sort) {
+        String field;
+        SortOrder order;
+        switch (sort != null ? sort : SortOption.LATEST) {
+            case PRICE_ASC -> {
+                field = "price";
+                order = SortOrder.Asc;
+            }
+            case PRICE_DESC -> {
+                field = "price";
+                order = SortOrder.Desc;
+            }
+            default -> {
+                field = "createdAt";
+                order = SortOrder.Desc;
+            }
         }
 
-        List<ProductSummaryDto> contents = response.hits().hits().stream()
+        return List.of(
+                SortOptions.of(o -> o.field(f -> f.field(field).order(order))),
+                SortOptions.of(o -> o.field(f -> f.field("id").order(order))));
+    }
+
+    // 검색 hit → 요약 DTO (찜 여부 제외)
+    private List<ProductSummaryDto> toSearchSummaries(List<Hit<ProductDocument>> hits) {
+        return hits.stream()
                 .map(Hit::source)
                 .filter(Objects::nonNull)
                 .map(doc -> {
                     ProductSummaryDto dto = ProductSummaryDto.fromDocument(doc);
 
-                    // 찜 여부
-                    dto.setInWishlist(wishlistProductIds.contains(dto.getId()));
-
                     // 썸네일 URL
                     if (doc.getThumbnailImagePath() != null) {
                         // 절대 경로가 아니라면 도메인 붙여주기
@@ -405,10 +722,53 @@ public class ProductService {
                     return dto;
                 })
                 .toList();
+    }
 
-        return new PageImpl<>(contents, PageRequest.of(page, size), response.hits().total().value());
+    // 로그인 유저가 찜한 상품 ID (찜 인덱스, 복사 없이 contains 만 사용)
+    private Set<Long> searchWishlistIds(List<ProductSummaryDto> contents, Long userId) {
+        if (userId == null || contents.isEmpty()) return Set.of();
+
+        return wishlistIndex.productIdsOf(userId);
     }
 
+    // 검색 결과 캐시 키 (목록 값은 정렬해서 같은 조건이면 같은 키)
+    private String searchCacheKey(String mode, ProductSearchRequest request, int size) {
+        String query = request.getQuery() == null ? "" : request.getQuery().trim().toLowerCase();
+        return String.join("|",
+                mode,
+                query,
+                String.valueOf(request.getCategoryId()),
+                String.valueOf(request.getPriceMin()),
+                String.valueOf(request.getPriceMax()),
+                sortedKey(request.getAgeGroups()),
+                sortedKey(request.getAreaIds()),
+                String.valueOf(Boolean.TRUE.equals(request.getExcludeSoldOut())),
+                sortedKey(request.getStatuses()),
+                String.valueOf(request.getSort() != null ? request.getSort() : SortOption.LATEST),
+                String.valueOf(size));
+    }
+
+    private static String sortedKey(Collection<?> values) {
+        if (values == null || values.isEmpty()) return "";
+        return values.stream()
+                .map(String::valueOf)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    // facet 캐시 키: 키워드 없이 카테고리만 고른 탐색일 때만 (그 외 조합은 캐시하지 않음)
+    private String facetCacheKey(ProductSearchRequest request, Map<String, Query> facetFilters) {
+        boolean categoryOnly = facetFilters.size() == 1 && facetFilters.containsKey(SearchFacetSupport.FACET_CATEGORY);
+        if (!categoryOnly || (request.getQuery() != null && !request.getQuery().isBlank())) return null;
+
+        return request.getCategoryId() + "|" + Boolean.TRUE.equals(request.getExcludeSoldOut());
+    }
+
+    // 검색 결과 (찜 여부 제외), total 은 커서 조회 시 -1, facets 는 요청한 첫 페이지만
+    private record SearchResult(List<ProductSummaryDto> contents, long total, String nextCursor,
+                                ProductSearchFacets facets) {
+    }
 
     /**
      * 주어진 상품 ID 목록에 해당하는 상품들의 요약 정보를 조회
@@ -499,54 +859,57 @@ public class ProductService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
 
-        // 2. 판매자 정보 조회 + 거래/리뷰 데이터 보강
+        // 조회수 집계 (판매자 본인 조회 제외, DB 반영은 주기적으로)
         Long sellerId = product.getSellerId();
-        UserDTO sellerInfo = getSellerInfo(sellerId);
-
-        // 3. 판매자의 최신 상품 3개 DTO 변환
-        List<Product> sellerProducts = productRepository.findTop3BySellerIdOrderByCreatedAtDesc(sellerId);
-        List<ProductSummaryDto> latestProductDtos = toProductSummaryDtos(sellerProducts, userId);
+        if (!sellerId.equals(userId)) {
+            productViewCounter.record(productId, userId);
+        }
 
-        // 4. 현재 상품 이미지 전체 DTO 변환
+        // 2~3. 판매자 정보/거래 수/리뷰 수/최신 상품은 서로 독립 → 병렬 조회 (각각 타임아웃 + 대체값)
+        CompletableFuture<UserDTO> sellerFuture = parallelLookupExecutor.submit("seller-info",
+                () -> userClient.getUserInfo(sellerId).getData(),
+                detailUserTimeoutMs, null);
+        CompletableFuture<Integer> tradeCountFuture = parallelLookupExecutor.submit("seller-trade-count",
+                () -> userTradeStatsService.get(sellerId).getTradeCount(),
+                detailDbTimeoutMs, 0);
+        CompletableFuture<Integer> reviewCountFuture = parallelLookupExecutor.submit("seller-review-count",
+                () -> {
+                    ReviewCountDTO resp = reviewClient.getReceivedReviewCount(sellerId);
+                    return (resp != null) ? resp.getCount() : 0;
+                },
+                detailReviewTimeoutMs, 0);
+        CompletableFuture<List<ProductSummaryDto>> recentFuture = parallelLookupExecutor.submit("seller-recent-products",
+                parallelLookupExecutor.inReadOnlyTx(() -> toProductSummaryDtos(
+                        productRepository.findTop3BySellerIdOrderByCreatedAtDesc(sellerId), userId)),
+                detailDbTimeoutMs, List.of());
+
+        // 4. 현재 상품 이미지 전체 DTO 변환 (요청 스레드에서 함께 진행)
         List<ProductImageDTO> images = toProductImageDtos(product);
 
         // 5. 찜 여부 및 상품 찜 수
         boolean inWishlist = false;
         if (userId != null) {
-            inWishlist = wishlistRepository.existsByUserIdAndProductId(userId, productId);
+            inWishlist = wishlistIndex.contains(userId, productId);
         }
-        long wishlistCount = wishlistRepository.countByProductId(productId);
+        long wishlistCount = wishlistIndex.count(productId);
 
-        // 6. 최종 DTO 반환
-        return ProductDetailDTO.builder()
-                .currentProduct(ProductDTO.fromEntity(product, images, (int) wishlistCount, inWishlist))
-                .sellerInfo(sellerInfo)
-                .sellerRecentProducts(latestProductDtos)
-                .build();
-    }
-
-
-    // 판매자 정보 조회
-    private UserDTO getSellerInfo(Long sellerId) {
-        ApiResponse<UserDTO> sellerResponse = userClient.getUserInfo(sellerId);
-        UserDTO sellerInfo = sellerResponse.getData();
+        // 6. 최종 DTO 반환 (조회수는 아직 반영 전인 증가분 포함)
+        ProductDTO currentProduct = ProductDTO.fromEntity(product, images, (int) wishlistCount, inWishlist);
+        currentProduct.setViewCount(product.getViewCount() + (int) productViewCounter.pendingCount(productId));
 
-        Integer tradeCount =
-                productRepository.countByTradeStatusAndSellerIdOrBuyerId(TradeStatus.SOLD, sellerId, sellerId);
-        // TODO: 리뷰 API 연동
-        Integer reviewCount = 0;
-        try {
-            ReviewCountDTO resp = reviewClient.getReceivedReviewCount(sellerId);
-            reviewCount = (resp != null) ? resp.getCount() : 0;
-        } catch (Exception e) {
-            // 실패 시 안전하게 0으로 fallback
-            reviewCount = 0;
+        // 판매자 정보 실패 시 id 만 채워 부분 응답
+        UserDTO sellerInfo = sellerFuture.join();
+        if (sellerInfo == null) {
+            sellerInfo = UserDTO.builder().id(sellerId).build();
         }
+        sellerInfo.setTradeCount(tradeCountFuture.join());
+        sellerInfo.setReviewCount(reviewCountFuture.join());
 
-        sellerInfo.setTradeCount(tradeCount);
-        sellerInfo.setReviewCount(reviewCount);
-
-        return sellerInfo;
+        return ProductDetailDTO.builder()
+                .currentProduct(currentProduct)
+                .sellerInfo(sellerInfo)
+                .sellerRecentProducts(recentFuture.join())
+                .build();
     }
 
     // 상품 요약 정보 리스트로 변환
@@ -572,7 +935,7 @@ public class ProductService {
 
         // 로그인한 경우 → 유저의 위시리스트 ID 한 번만 조회
         Set<Long> wishlistIds = loginUserId != null
-                ? wishlistRepository.findProductIdsByUserId(loginUserId)
+                ? wishlistIndex.productIdsOf(loginUserId)
                 : Set.of();
 
         return products.stream()
@@ -604,18 +967,9 @@ public class ProductService {
                 .toList();
     }
 
-    // 이미지 경로 가져오기
+    // 이미지 경로 가져오기 (캐시 + 배치 조회)
     private Map<Long, String> resolveImagePaths(Collection<Long> imageIds) {
-        if (imageIds.isEmpty()) return Map.of();
-
-        String idsParam = imageIds.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
-
-        ApiResponse<List<ImageFileDTO>> response = fileClient.getImageFilesByIds(idsParam);
-
-        return response.getData().stream()
-                .collect(Collectors.toMap(ImageFileDTO::getId, ImageFileDTO::getPath));
+        return imagePathResolver.resolve(imageIds);
     }
 
 
@@ -627,92 +981,98 @@ public class ProductService {
      */
     @Transactional
     public Long createProduct(ProductRequest dto, String userId) throws IOException {
-        ProductCategory category = categoryRepository.findById(dto.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("Invalid category ID"));
-
-        Product product = Product.fromRequest(dto, category, Long.valueOf(userId));
-        Product saved = productRepository.save(product);
-
-        // 상품 이미지 연결
-        int sortOrder = 1;
-        for (Long imageFileId : dto.getImageFileIds()) {
-            ProductImageId id = new ProductImageId(saved.getId(), imageFileId);
-
-            ProductImage image = ProductImage.builder()
-                    .id(id)
-                    .sortOrder(sortOrder++)
-                    .product(saved)
-                    .build();
-
-            productImageRepository.save(image);
-        }
-
-
-        // 지역 연결
-        for (Integer areaId : dto.getAreaIds()) {
-            Area area = areaRepository.findById(areaId)
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid area ID: " + areaId));
+        return createProducts(List.of(dto), Long.valueOf(userId)).get(0);
+    }
 
-            ProductTradeAreaId tradeAreaId = new ProductTradeAreaId(saved.getId(), area.getId());
-            ProductTradeArea tradeArea = ProductTradeArea.builder()
-                    .id(tradeAreaId)
-                    .product(saved)
-                    .area(area)
-                    .build();
+    /**
+     * 상품 일괄 등록 (단건 등록도 같은 경로 사용)
+     * - 카테고리는 IN 조회 한 번, 지역은 메모리 레지스트리로 검증
+     * - 이미지/거래지역/해시태그 행은 JDBC 배치로 저장, 없는 해시태그는 upsert
+     * - 썸네일 경로는 색인 워커가 이미지 경로 캐시로 채움
+     *
+     * @param requests 상품 등록 요청 목록
+     * @param sellerId 판매자 ID
+     * @return 등록된 상품 ID (요청 순서)
+     */
+    @Transactional
+    public List<Long> createProducts(List<ProductRequest> requests, Long sellerId) {
+        if (requests.isEmpty()) return List.of();
 
-            productTradeAreaRepository.save(tradeArea);
+        Set<Long> categoryIds = requests.stream()
+                .map(ProductRequest::getCategoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ProductCategory> categories = categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(ProductCategory::getId, c -> c));
+
+        // 저장 전에 전부 검증 (이미지/거래지역 없는 상품은 목록 화면 변환에서 실패하므로 받지 않음)
+        List<Product> products = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ProductRequest dto = requests.get(i);
+            ProductCategory category = dto.getCategoryId() != null ? categories.get(dto.getCategoryId()) : null;
+            if (category == null) {
+                throw new IllegalArgumentException("Invalid category ID (item " + i + ")");
+            }
+            List<Long> imageFileIds = nullToEmpty(dto.getImageFileIds());
+            if (imageFileIds.isEmpty()) {
+                throw new IllegalArgumentException("At least one image is required (item " + i + ")");
+            }
+            if (imageFileIds.stream().anyMatch(Objects::isNull)) {
+                throw new IllegalArgumentException("Invalid image file ID: null (item " + i + ")");
+            }
+            if (nullToEmpty(dto.getAreaIds()).isEmpty()) {
+                throw new IllegalArgumentException("At least one trade area is required (item " + i + ")");
+            }
+            for (Integer areaId : dto.getAreaIds()) {
+                if (!areaRegistry.contains(areaId)) {
+                    throw new IllegalArgumentException("Invalid area ID: " + areaId + " (item " + i + ")");
+                }
+            }
+            for (String tag : nullToEmpty(dto.getHashtags())) {
+                if (tag != null && tag.trim().length() > HASHTAG_MAX_LENGTH) {
+                    throw new IllegalArgumentException("Hashtag too long (max " + HASHTAG_MAX_LENGTH + "): "
+                            + tag.trim() + " (item " + i + ")");
+                }
+            }
+            products.add(Product.fromRequest(dto, category, sellerId));
         }
 
-        // 해시태그 연결
-        for (String tagName : dto.getHashtags()) {
-            Hashtag hashtag = hashtagRepository.findByName(tagName)
-                    .orElseGet(() -> hashtagRepository.save(Hashtag.builder().name(tagName).build()));
-
-            ProductHashtagId phId = new ProductHashtagId(saved.getId(), hashtag.getId());
-            ProductHashtag ph = ProductHashtag.builder()
-                    .id(phId)
-                    .product(saved)
-                    .hashtag(hashtag)
-                    .build();
-
-            // hashtag list에 추가
-            saved.getProductHashtags().add(ph);
+        List<Product> saved = productRepository.saveAll(products);
+
+        // 자식 행 일괄 저장
+        List<ProductChildWriter.ProductChildren> children = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            ProductRequest dto = requests.get(i);
+            children.add(new ProductChildWriter.ProductChildren(
+                    saved.get(i).getId(),
+                    nullToEmpty(dto.getImageFileIds()),
+                    nullToEmpty(dto.getAreaIds()),
+                    nullToEmpty(dto.getHashtags()).stream()
+                            .filter(tag -> tag != null && !tag.isBlank())
+                            .map(String::trim)
+                            .toList()));
         }
+        productChildWriter.insertAll(children);
 
-        /** Elasticsearch 색인 **/
-        // emd 추출
-        Area area = areaRepository.findById(dto.getAreaIds().get(0))
-                .orElseThrow(() -> new IllegalArgumentException("Invalid area ID: " + dto.getAreaIds().get(0)));
-        String emd = area.getName();
+        // 판매자 등록 상품 수 반영
+        userTradeStatsService.productsCreated(saved);
 
+        List<Long> ids = saved.stream().map(Product::getId).toList();
 
-        // 썸네일 추출
-        Long firstImageFileId = dto.getImageFileIds().get(0);
-        ApiResponse<List<ImageFileDTO>> response = fileClient.getImageFilesByIds(firstImageFileId.toString());
-        String thumbnailImagePath = response.getData().get(0).getPath();
+        // Elasticsearch 색인 요청 (outbox, 커밋 이후 워커가 bulk 반영)
+        productIndexService.enqueueAll(ids);
 
-        indexProduct(saved, emd, thumbnailImagePath, dto.getAreaIds());
+        // 홈 섹션 스냅샷 갱신 요청 (커밋 이후 반영)
+        homeSectionSnapshot.requestRefresh();
 
-        return saved.getId();
+        return ids;
     }
-    // ------------ util --------------
-
-    /***
-     * Elasticsearch에 상품 데이터를 색인
-     * @param product 색인할 상품 엔티티
-     * @param emd
-     * @param thumbnailImagePath
-     */
-    public void indexProduct(Product product, String emd, String thumbnailImagePath, List<Integer> tradeAreaIds) throws IOException {
-        ProductDocument doc = ProductDocument.fromEntity(product, emd, thumbnailImagePath, tradeAreaIds);
 
-        esClient.index(i -> i
-                .index("products")
-                .id(doc.getId().toString())
-                .document(doc)
-        );
+    private static <T> List<T> nullToEmpty(List<T> values) {
+        return values != null ? values : List.of();
     }
 
+    // ------------ util --------------
 
     /**
      * FileClient를 통해 이미지 파일 ID → 절대 URL 맵핑을 조회한다.
@@ -723,20 +1083,10 @@ public class ProductService {
     private Map<Long, String> getFileUrlsByIds(Collection<Long> fileIds) {
         if (fileIds == null || fileIds.isEmpty()) return Collections.emptyMap();
 
-        String idsParam = fileIds.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
-
-        ApiResponse<List<ImageFileDTO>> resp = fileClient.getImageFilesByIds(idsParam);
-
-        if (resp == null || resp.getData() == null) {
-            return Collections.emptyMap();
-        }
-
-        return resp.getData().stream()
+        return imagePathResolver.resolve(fileIds).entrySet().stream()
                 .collect(Collectors.toMap(
-                        ImageFileDTO::getId,
-                        dto -> toAbsoluteUrl(dto.getPath())
+                        Map.Entry::getKey,
+                        e -> toAbsoluteUrl(e.getValue())
                 ));
     }
 }
@@ -0,0 +1,195 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 조회수 write-behind 카운터
+ * - 상세 조회 시 DB를 건드리지 않고 상품별 LongAdder 만 증가
+ * - 주기적으로 모아서 view_count = view_count + ? 배치 UPDATE 후 ES 에 부분 업데이트
+ * - 같은 유저의 같은 상품 반복 조회는 dedup-window 동안 1회로 계산
+ */
+@Slf4j
+@Component
+public class ProductViewCounter {
+
+    private static final String UPDATE_SQL =
+            "UPDATE tbl_product SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ElasticsearchClient esClient;
+
+    private final long dedupWindowMillis;
+    private final int flushBatchSize;
+
+    // productId -> 아직 반영되지 않은 조회수
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 지난 flush 에서 맵에서 뗀 adder (떼기 직전에 꺼내 간 record() 가 늦게 더한 값을 다음 flush 에서 합산, flush 안에서만 사용)
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+    // "userId:productId" -> 마지막으로 집계된 조회 시각
+    private final ConcurrentHashMap<String, Long> recentViews = new ConcurrentHashMap<>();
+
+    public ProductViewCounter(
+            JdbcTemplate jdbcTemplate,
+            ElasticsearchClient esClient,
+            @Value("${product.view-counter.dedup-window-seconds:600}") long dedupWindowSeconds,
+            @Value("${product.view-counter.flush-batch-size:500}") int flushBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.esClient = esClient;
+        this.dedupWindowMillis = TimeUnit.SECONDS.toMillis(dedupWindowSeconds);
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    /**
+     * 조회 1회 기록
+     *
+     * @param productId 조회한 상품 ID
+     * @param userId    조회한 유저 ID (비로그인이면 null → 중복 제거 없이 집계)
+     */
+    public void record(Long productId, Long userId) {
+        if (productId == null) return;
+
+        if (userId != null) {
+            long now = System.currentTimeMillis();
+            String key = userId + ":" + productId;
+            Long last = recentViews.get(key);
+            if (last != null && now - last < dedupWindowMillis) return;
+
+            // 동시에 같은 키로 들어온 경우 한 건만 집계
+            if (last == null ? recentViews.putIfAbsent(key, now) != null
+                    : !recentViews.replace(key, last, now)) {
+                return;
+            }
+        }
+
+        add(productId, 1);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pendingCount(Long productId) {
+        LongAdder adder = pending.get(productId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 누적된 조회수를 DB/ES 에 반영
+     */
+    @Scheduled(fixedDelayString = "${product.view-counter.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        pruneRecentViews();
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> e : retired) {
+            long late = e.getValue().sumThenReset();
+            if (late > 0) deltas.merge(e.getKey(), late, Long::sum);
+        }
+        retired = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> e : pending.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.merge(e.getKey(), delta, Long::sum);
+            } else if (pending.remove(e.getKey(), e.getValue())) {
+                // 한 주기 동안 조회가 없던 상품은 맵에서 제거 (메모리 유지용)
+                // 제거 직전에 adder 를 꺼내 간 record() 의 증가분은 다음 flush 에서 retired 로 합산
+                retired.add(Map.entry(e.getKey(), e.getValue()));
+            }
+        }
+        if (deltas.isEmpty()) return;
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += flushBatchSize) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + flushBatchSize, entries.size()));
+            if (flushToDatabase(chunk)) {
+                flushToElasticsearch(chunk);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // ------------ internal --------------
+
+    // 있으면 get 만 하고 락 없이 증가 (인기 상품에 조회가 몰려도 맵 버킷 락에서 줄 서지 않음), 없을 때만 computeIfAbsent
+    private void add(Long productId, long delta) {
+        LongAdder adder = pending.get(productId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(productId, id -> new LongAdder());
+        }
+        adder.add(delta);
+    }
+
+    private boolean flushToDatabase(List<Map.Entry<Long, Long>> chunk) {
+        try {
+            List<Object[]> args = chunk.stream()
+                    .map(e -> new Object[]{e.getValue(), e.getKey()})
+                    .toList();
+            jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+            return true;
+        } catch (Exception ex) {
+            // 실패한 증가분은 다음 주기에 다시 반영
+            log.warn("조회수 DB 반영 실패 - size: {}", chunk.size(), ex);
+            for (Map.Entry<Long, Long> e : chunk) {
+                add(e.getKey(), e.getValue());
+            }
+            return false;
+        }
+    }
+
+    // DB 반영 후 최종 값을 읽어 ES 문서의 viewCount 만 부분 업데이트 (재시도해도 결과 동일)
+    private void flushToElasticsearch(List<Map.Entry<Long, Long>> chunk) {
+        try {
+            String placeholders = chunk.stream().map(e -> "?").collect(Collectors.joining(","));
+            Object[] ids = chunk.stream().map(Map.Entry::getKey).toArray();
+
+            Map<Long, Integer> viewCounts = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT id, view_count FROM tbl_product WHERE id IN (" + placeholders + ")",
+                    rs -> {
+                        viewCounts.put(rs.getLong("id"), rs.getInt("view_count"));
+                    },
+                    ids);
+            if (viewCounts.isEmpty()) return;
+
+            BulkRequest.Builder bulk = new BulkRequest.Builder();
+            viewCounts.forEach((id, viewCount) -> bulk.operations(op -> op
+                    .update(u -> u
+                            .index("products")
+                            .id(id.toString())
+                            .action(a -> a.doc(Map.of("viewCount", viewCount))))));
+
+            BulkResponse response = esClient.bulk(bulk.build());
+            if (response.errors()) {
+                long failed = response.items().stream().filter(item -> item.error() != null).count();
+                log.warn("조회수 ES 반영 일부 실패 - failed: {}/{}", failed, viewCounts.size());
+            }
+        } catch (Exception ex) {
+            log.warn("조회수 ES 반영 실패 - size: {}", chunk.size(), ex);
+        }
+    }
+
+    private void pruneRecentViews() {
+        long threshold = System.currentTimeMillis() - dedupWindowMillis;
+        recentViews.entrySet().removeIf(e -> e.getValue() < threshold);
+    }
+}
@@ -0,0 +1,183 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.entity.product.RecommendedAge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * 연령대 기반 추천 후보 풀
+ * - 판매 중 상품을 주기적으로 읽어 점수(최신성/조회수/찜 수) 계산 후
+ *   추천 연령대별, 추천 연령대 × 거래지역별 상위 pool-size 개만 보관
+ * - 요청 시에는 해당 풀들만 합쳐 점수 순 상위 N 반환 (DB 조회 없음)
+ */
+@Slf4j
+@Component
+public class RecommendationEngine {
+
+    private static final String PRODUCT_SQL =
+            "SELECT id, recommended_age, created_at, view_count FROM tbl_product "
+                    + "WHERE is_deleted = 0 AND trade_status <> 'SOLD'";
+    private static final String TRADE_AREA_SQL =
+            "SELECT ta.product_id, ta.area_id FROM tbl_product_trade_area ta "
+                    + "JOIN tbl_product p ON p.id = ta.product_id "
+                    + "WHERE p.is_deleted = 0 AND p.trade_status <> 'SOLD'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WishlistIndex wishlistIndex;
+    private volatile RecommendationScorer scorer;
+    private final int poolSize;
+
+    private volatile Pools pools;   // 첫 생성 전에는 null
+
+    public RecommendationEngine(
+            JdbcTemplate jdbcTemplate,
+            WishlistIndex wishlistIndex,
+            @Value("${product.recommendation.weights.recency:0.5}") double recencyWeight,
+            @Value("${product.recommendation.weights.views:0.2}") double viewWeight,
+            @Value("${product.recommendation.weights.wishlist:0.3}") double wishlistWeight,
+            @Value("${product.recommendation.recency-half-life-hours:72}") double halfLifeHours,
+            @Value("${product.recommendation.view-saturation:500}") long viewSaturation,
+            @Value("${product.recommendation.wishlist-saturation:50}") long wishlistSaturation,
+            @Value("${product.recommendation.pool-size:300}") int poolSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.wishlistIndex = wishlistIndex;
+        this.scorer = new RecommendationScorer(new RecommendationScorer.Weights(
+                recencyWeight, viewWeight, wishlistWeight, halfLifeHours, viewSaturation, wishlistSaturation));
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * 추천 상품 ID (점수 순)
+     * - 거래지역이 있으면 연령대 × 지역 풀에서 먼저 채우고, 모자라면 연령대 풀로 보충
+     *
+     * @return 후보 풀이 아직 없으면 null
+     */
+    public List<Long> recommend(Set<RecommendedAge> ages, Collection<Integer> areaIds, int limit) {
+        Pools p = pools;
+        if (p == null) return null;
+
+        List<Long> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+
+        if (areaIds != null && !areaIds.isEmpty()) {
+            List<Candidate> local = new ArrayList<>();
+            for (RecommendedAge age : ages) {
+                Map<Integer, Candidate[]> byArea = p.byAgeAndArea.getOrDefault(age, Map.of());
+                for (Integer areaId : areaIds) {
+                    Collections.addAll(local, byArea.getOrDefault(areaId, Pools.NONE));
+                }
+            }
+            take(local, limit, result, seen);
+        }
+
+        if (result.size() < limit) {
+            List<Candidate> general = new ArrayList<>();
+            for (RecommendedAge age : ages) {
+                Collections.addAll(general, p.byAge.getOrDefault(age, Pools.NONE));
+            }
+            take(general, limit, result, seen);
+        }
+        return result;
+    }
+
+    public RecommendationScorer.Weights getWeights() {
+        return scorer.getWeights();
+    }
+
+    /**
+     * 가중치 변경 후 후보 풀 바로 재계산 (이 인스턴스만, 재기동 시 설정값으로 복귀)
+     */
+    public void updateWeights(RecommendationScorer.Weights weights) {
+        this.scorer = new RecommendationScorer(weights);
+        log.info("추천 점수 가중치 변경 - {}", weights);
+        rebuild();
+    }
+
+    /**
+     * 후보 풀 재생성 (기동 직후 + 주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${product.recommendation.refresh-interval-ms:60000}")
+    public synchronized void rebuild() {
+        try {
+            RecommendationScorer scorer = this.scorer;
+            long now = System.currentTimeMillis();
+            boolean useWishlist = wishlistIndex.isReady();
+
+            Map<Long, Candidate> candidates = new HashMap<>();
+            Map<Long, RecommendedAge> ageById = new HashMap<>();
+            jdbcTemplate.query(PRODUCT_SQL, rs -> {
+                long id = rs.getLong("id");
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                long wishlistCount = useWishlist ? wishlistIndex.count(id) : 0L;
+                double score = scorer.score(
+                        createdAt != null ? createdAt.getTime() : 0L, rs.getLong("view_count"), wishlistCount, now);
+
+                candidates.put(id, new Candidate(id, score));
+                ageById.put(id, RecommendedAge.valueOf(rs.getString("recommended_age")));
+            });
+
+            Map<RecommendedAge, List<Candidate>> byAge = new EnumMap<>(RecommendedAge.class);
+            for (Candidate c : candidates.values()) {
+                byAge.computeIfAbsent(ageById.get(c.productId()), k -> new ArrayList<>()).add(c);
+            }
+
+            Map<RecommendedAge, Map<Integer, List<Candidate>>> byAgeAndArea = new EnumMap<>(RecommendedAge.class);
+            jdbcTemplate.query(TRADE_AREA_SQL, rs -> {
+                Candidate c = candidates.get(rs.getLong("product_id"));
+                if (c == null) return;
+                byAgeAndArea.computeIfAbsent(ageById.get(c.productId()), k -> new HashMap<>())
+                        .computeIfAbsent(rs.getInt("area_id"), k -> new ArrayList<>())
+                        .add(c);
+            });
+
+            Map<RecommendedAge, Candidate[]> agePools = new EnumMap<>(RecommendedAge.class);
+            byAge.forEach((age, list) -> agePools.put(age, topN(list)));
+
+            Map<RecommendedAge, Map<Integer, Candidate[]>> areaPools = new EnumMap<>(RecommendedAge.class);
+            byAgeAndArea.forEach((age, byArea) -> {
+                Map<Integer, Candidate[]> pooled = new HashMap<>(byArea.size() * 2);
+                byArea.forEach((areaId, list) -> pooled.put(areaId, topN(list)));
+                areaPools.put(age, pooled);
+            });
+
+            pools = new Pools(agePools, areaPools);
+            log.debug("추천 후보 풀 생성 완료 - products: {}, elapsed: {}ms",
+                    candidates.size(), System.currentTimeMillis() - now);
+        } catch (Exception e) {
+            log.warn("추천 후보 풀 생성 실패 (기존 풀 유지)", e);
+        }
+    }
+
+    // ------------ internal --------------
+
+    private Candidate[] topN(List<Candidate> list) {
+        list.sort(Candidate.BY_SCORE);
+        return list.subList(0, Math.min(poolSize, list.size())).toArray(Pools.NONE);
+    }
+
+    private static void take(List<Candidate> candidates, int limit, List<Long> result, Set<Long> seen) {
+        candidates.sort(Candidate.BY_SCORE);
+        for (Candidate c : candidates) {
+            if (result.size() >= limit) return;
+            if (seen.add(c.productId())) result.add(c.productId());
+        }
+    }
+
+    private record Candidate(long productId, double score) {
+        // 점수 desc, 같으면 최근 id 우선
+        static final Comparator<Candidate> BY_SCORE = Comparator
+                .comparingDouble(Candidate::score).reversed()
+                .thenComparing(Comparator.comparingLong(Candidate::productId).reversed());
+    }
+
+    private record Pools(Map<RecommendedAge, Candidate[]> byAge,
+                         Map<RecommendedAge, Map<Integer, Candidate[]>> byAgeAndArea) {
+        static final Candidate[] NONE = new Candidate[0];
+    }
+}
@@ -0,0 +1,65 @@
+package com.momnect.productservice.command.service;
+
+/**
+ * 추천 점수 계산 (상태 없음, 할당 없음)
+ * - 최신성: 반감기 기준 지수 감쇠 (방금 등록 = 1, 반감기 경과 = 0.5)
+ * - 조회수/찜 수: log1p 로 완만하게 증가시키고 기준값으로 나눠 0~1 근처로 맞춤
+ * - 최종 점수 = 가중치 합
+ */
+public final class RecommendationScorer {
+
+    private static final double LN2 = Math.log(2);
+
+    private final Weights weights;
+    private final double decayPerMilli;
+    private final double viewNorm;
+    private final double wishlistNorm;
+
+    public RecommendationScorer(Weights weights) {
+        this.weights = weights;
+        this.decayPerMilli = LN2 / (weights.recencyHalfLifeHours() * 3_600_000d);
+        this.viewNorm = Math.log1p(weights.viewSaturation());
+        this.wishlistNorm = Math.log1p(weights.wishlistSaturation());
+    }
+
+    /**
+     * @param createdAtMillis 상품 등록 시각 (epoch ms)
+     * @param viewCount       조회수
+     * @param wishlistCount   찜 수
+     * @param nowMillis       기준 시각 (epoch ms)
+     */
+    public double score(long createdAtMillis, long viewCount, long wishlistCount, long nowMillis) {
+        long ageMillis = Math.max(0L, nowMillis - createdAtMillis);
+        double recency = Math.exp(-decayPerMilli * ageMillis);
+        double views = Math.min(1d, Math.log1p(Math.max(0L, viewCount)) / viewNorm);
+        double wishlist = Math.min(1d, Math.log1p(Math.max(0L, wishlistCount)) / wishlistNorm);
+
+        return weights.recency() * recency
+                + weights.views() * views
+                + weights.wishlist() * wishlist;
+    }
+
+    public Weights getWeights() {
+        return weights;
+    }
+
+    /**
+     * 점수 가중치
+     *
+     * @param recency              최신성 가중치
+     * @param views                조회수 가중치
+     * @param wishlist             찜 수 가중치
+     * @param recencyHalfLifeHours 최신성 반감기(시간)
+     * @param viewSaturation       조회수 점수가 1 이 되는 조회수
+     * @param wishlistSaturation   찜 점수가 1 이 되는 찜 수
+     */
+    public record Weights(double recency, double views, double wishlist,
+                          double recencyHalfLifeHours, long viewSaturation, long wishlistSaturation) {
+
+        public Weights {
+            if (recencyHalfLifeHours <= 0 || viewSaturation <= 0 || wishlistSaturation <= 0) {
+                throw new IllegalArgumentException("추천 점수 설정값은 0보다 커야 합니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.momnect.productservice.command.entity.product.SortOption;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 검색 커서 토큰 인코딩/디코딩
+ * - 마지막 hit 의 sort 값(search_after)과 정렬 옵션을 불투명한 문자열로 변환
+ */
+final class SearchCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private SearchCursorCodec() {
+    }
+
+    static String encode(SortOption sort, List<FieldValue> sortValues) {
+        StringBuilder sb = new StringBuilder(sort.name());
+        for (FieldValue value : sortValues) {
+            sb.append(SEPARATOR);
+            if (value.isLong()) {
+                sb.append("l:").append(value.longValue());
+            } else if (value.isDouble()) {
+                sb.append("d:").append(value.doubleValue());
+            } else if (value.isBoolean()) {
+                sb.append("b:").append(value.booleanValue());
+            } else if (value.isString()) {
+                sb.append("s:").append(Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(value.stringValue().getBytes(StandardCharsets.UTF_8)));
+            } else {
+                throw new IllegalStateException("지원하지 않는 정렬 값입니다: " + value._kind());
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static List<FieldValue> decode(String cursor, SortOption expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+
+            if (parts.length < 2 || !parts[0].equals(expectedSort.name())) {
+                throw new IllegalArgumentException("정렬 조건이 커서와 일치하지 않습니다.");
+            }
+
+            List<FieldValue> values = new ArrayList<>();
+            for (int i = 1; i < parts.length; i++) {
+                String type = parts[i].substring(0, 2);
+                String value = parts[i].substring(2);
+                switch (type) {
+                    case "l:" -> values.add(FieldValue.of(Long.parseLong(value)));
+                    case "d:" -> values.add(FieldValue.of(Double.parseDouble(value)));
+                    case "b:" -> values.add(FieldValue.of(Boolean.parseBoolean(value)));
+                    case "s:" -> values.add(FieldValue.of(
+                            new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8)));
+                    default -> throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+                }
+            }
+            return values;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.FilterAggregate;
+import co.elastic.clients.elasticsearch._types.query_dsl.NumberRangeQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.momnect.productservice.command.dto.product.ProductSearchFacets;
+import com.momnect.productservice.command.dto.product.ProductSearchFacets.FacetBucket;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 facet 집계 생성/파싱
+ * - 각 facet 은 "자기 자신을 제외한" 선택 필터로 거른 filter 집계 안에서 계산
+ * - hit 에는 전체 필터를 post_filter 로 적용 → 선택한 facet 의 다른 값 개수도 유지됨
+ */
+final class SearchFacetSupport {
+
+    static final String FACET_CATEGORY = "categoryId";
+    static final String FACET_AGE = "recommendedAge";
+    static final String FACET_STATUS = "productStatus";
+    static final String FACET_AREA = "tradeAreaIds";
+    static final String FACET_PRICE = "price";
+
+    private static final String VALUES = "values";
+
+    // 가격 구간 (원), to 는 미포함
+    private static final List<PriceRange> PRICE_RANGES = List.of(
+            new PriceRange(null, 10_000),
+            new PriceRange(10_000, 30_000),
+            new PriceRange(30_000, 50_000),
+            new PriceRange(50_000, 100_000),
+            new PriceRange(100_000, null));
+
+    private SearchFacetSupport() {
+    }
+
+    /**
+     * facet 집계 생성
+     *
+     * @param facetFilters facet 이름 → 선택된 필터 (선택 안 된 facet 은 없음)
+     */
+    static Map<String, Aggregation> buildAggregations(Map<String, Query> facetFilters) {
+        Map<String, Aggregation> aggregations = new LinkedHashMap<>();
+
+        aggregations.put(FACET_CATEGORY, termsFacet(FACET_CATEGORY, facetFilters, "categoryId", 100));
+        aggregations.put(FACET_AGE, termsFacet(FACET_AGE, facetFilters, "recommendedAge", 20));
+        aggregations.put(FACET_STATUS, termsFacet(FACET_STATUS, facetFilters, "productStatus", 10));
+        aggregations.put(FACET_AREA, termsFacet(FACET_AREA, facetFilters, "tradeAreaIds", 50));
+
+        Map<String, Aggregation> priceBuckets = new LinkedHashMap<>();
+        for (PriceRange range : PRICE_RANGES) {
+            priceBuckets.put(range.key(), Aggregation.of(a -> a.filter(range.toQuery())));
+        }
+        Query others = otherFilters(FACET_PRICE, facetFilters);
+        aggregations.put(FACET_PRICE, Aggregation.of(a -> a.filter(others).aggregations(priceBuckets)));
+
+        return aggregations;
+    }
+
+    /**
+     * ES 집계 결과 → facet DTO
+     */
+    static ProductSearchFacets parse(Map<String, Aggregate> aggregations) {
+        FilterAggregate price = aggregations.get(FACET_PRICE).filter();
+
+        return ProductSearchFacets.builder()
+                .categories(termBuckets(aggregations.get(FACET_CATEGORY)))
+                .recommendedAges(termBuckets(aggregations.get(FACET_AGE)))
+                .productStatuses(termBuckets(aggregations.get(FACET_STATUS)))
+                .tradeAreas(termBuckets(aggregations.get(FACET_AREA)))
+                .prices(PRICE_RANGES.stream()
+                        .map(range -> new FacetBucket(range.key(),
+                                price.aggregations().get(range.key()).filter().docCount()))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 가격 필터 쿼리
+     */
+    static Query priceRangeQuery(Integer min, Integer max) {
+        NumberRangeQuery.Builder priceRange = new NumberRangeQuery.Builder().field("price");
+        if (min != null) priceRange.gte(min.doubleValue());
+        if (max != null) priceRange.lte(max.doubleValue());
+        NumberRangeQuery range = priceRange.build();
+        return Query.of(q -> q.range(r -> r.number(range)));
+    }
+
+    // ------------ internal --------------
+
+    private static Aggregation termsFacet(String facet, Map<String, Query> facetFilters, String field, int size) {
+        Query others = otherFilters(facet, facetFilters);
+        return Aggregation.of(a -> a
+                .filter(others)
+                .aggregations(VALUES, v -> v.terms(t -> t.field(field).size(size))));
+    }
+
+    // 자신을 제외한 선택 필터 (없으면 match_all 과 같은 빈 bool)
+    private static Query otherFilters(String facet, Map<String, Query> facetFilters) {
+        List<Query> others = facetFilters.entrySet().stream()
+                .filter(e -> !e.getKey().equals(facet))
+                .map(Map.Entry::getValue)
+                .toList();
+        return Query.of(q -> q.bool(b -> b.filter(others)));
+    }
+
+    private static List<FacetBucket> termBuckets(Aggregate facet) {
+        Aggregate values = facet.filter().aggregations().get(VALUES);
+
+        if (values.isLterms()) {
+            return values.lterms().buckets().array().stream()
+                    .map(b -> new FacetBucket(String.valueOf(b.key()), b.docCount()))
+                    .toList();
+        }
+        if (values.isSterms()) {
+            return values.sterms().buckets().array().stream()
+                    .map(b -> new FacetBucket(b.key().stringValue(), b.docCount()))
+                    .toList();
+        }
+        // 색인된 문서가 없어 필드 매핑이 없는 경우 등
+        return List.of();
+    }
+
+    private record PriceRange(Integer from, Integer to) {
+
+        String key() {
+            return (from != null ? from : 0) + "-" + (to != null ? to : "");
+        }
+
+        Query toQuery() {
+            NumberRangeQuery.Builder range = new NumberRangeQuery.Builder().field("price");
+            if (from != null) range.gte(from.doubleValue());
+            if (to != null) range.lt(to.doubleValue());
+            NumberRangeQuery built = range.build();
+            return Query.of(q -> q.range(r -> r.number(built)));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.dto.product.ProductSummaryDto;
+import com.momnect.productservice.common.TtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품별 유사 상품 캐시 (찜 여부 제외)
+ * - 상품이 다시 색인되면 해당 상품 항목 삭제, 전체 재색인 완료 시 전체 삭제
+ * - 조회 도중 삭제가 일어났으면 그 결과는 저장하지 않음 (오래된 결과가 다시 들어가는 것 방지)
+ */
+@Component
+public class SimilarProductCache {
+
+    private final TtlCache<Long, List<ProductSummaryDto>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public SimilarProductCache(
+            @Value("${product.similar.cache-size:5000}") int maxSize,
+            @Value("${product.similar.cache-ttl-ms:600000}") long ttlMillis) {
+        this.cache = new TtlCache<>(maxSize, ttlMillis);
+    }
+
+    public List<ProductSummaryDto> get(Long productId) {
+        return cache.get(productId);
+    }
+
+    /**
+     * 조회 시작 시점 세대 값 (put 에 그대로 전달)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(Long productId, List<ProductSummaryDto> similar, long generationAtLoad) {
+        if (generation.get() != generationAtLoad) return;
+        cache.put(productId, similar);
+    }
+
+    public void invalidate(Collection<Long> productIds) {
+        if (productIds.isEmpty()) return;
+        generation.incrementAndGet();
+        for (Long productId : productIds) {
+            cache.invalidate(productId);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
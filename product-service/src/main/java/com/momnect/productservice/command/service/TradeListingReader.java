@@ -0,0 +1,91 @@
+package com.momnect.productservice.command.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 판매/구매 상품 목록 keyset 조회 (JDBC 슬림 프로젝션)
+ * - 엔티티/연관관계 로딩 없이 목록에 필요한 컬럼 + 대표 이미지 파일 id + 첫 거래지역 id 를 쿼리 한 번으로 조회
+ *   (첫 거래지역은 Product.tradeAreas 의 @OrderBy 와 같은 sort_order, area_id 순)
+ * - (created_at, id) 내림차순 keyset, 인덱스 idx_product_seller_deleted_created / idx_product_buyer_status_created 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class TradeListingReader {
+
+    private static final String SELECT_COLUMNS =
+            "SELECT p.id, p.seller_id, p.name, p.price, p.product_status, p.trade_status, p.is_deleted, p.created_at, "
+                    + "(SELECT pi.image_file_id FROM tbl_product_image pi WHERE pi.product_id = p.id "
+                    + " ORDER BY pi.sort_order LIMIT 1) AS thumbnail_file_id, "
+                    + "(SELECT ta.area_id FROM tbl_product_trade_area ta WHERE ta.product_id = p.id "
+                    + " ORDER BY ta.sort_order, ta.area_id LIMIT 1) AS area_id "
+                    + "FROM tbl_product p ";
+    private static final String KEYSET_CONDITION =
+            "AND (p.created_at < :createdAt OR (p.created_at = :createdAt AND p.id < :id)) ";
+    private static final String ORDER_AND_LIMIT =
+            "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit";
+
+    private static final String SALES_WHERE = "WHERE p.seller_id = :userId AND p.is_deleted = 0 ";
+    private static final String PURCHASES_WHERE = "WHERE p.buyer_id = :userId AND p.trade_status = 'SOLD' ";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 판매자가 등록한 상품 (삭제 제외)
+     */
+    public List<Row> findSales(Long sellerId, TradeCursorCodec.Position after, int limit) {
+        return query(SALES_WHERE, sellerId, after, limit);
+    }
+
+    /**
+     * 구매 완료 상품
+     */
+    public List<Row> findPurchases(Long buyerId, TradeCursorCodec.Position after, int limit) {
+        return query(PURCHASES_WHERE, buyerId, after, limit);
+    }
+
+    // ------------ internal --------------
+
+    private List<Row> query(String where, Long userId, TradeCursorCodec.Position after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append(where);
+        if (after != null) {
+            sql.append(KEYSET_CONDITION);
+            params.addValue("createdAt", Timestamp.valueOf(after.createdAt()))
+                    .addValue("id", after.id());
+        }
+        sql.append(ORDER_AND_LIMIT);
+
+        return namedJdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new Row(
+                rs.getLong("id"),
+                rs.getLong("seller_id"),
+                rs.getString("name"),
+                rs.getInt("price"),
+                rs.getString("product_status"),
+                rs.getString("trade_status"),
+                rs.getBoolean("is_deleted"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getObject("thumbnail_file_id", Long.class),
+                rs.getObject("area_id", Integer.class)));
+    }
+
+    /**
+     * 목록 한 행
+     *
+     * @param thumbnailFileId 대표 이미지 파일 id (sort_order 최소)
+     * @param areaId          첫 거래지역 id (sort_order 최소, 같으면 area_id 최소)
+     */
+    public record Row(long id, long sellerId, String name, int price,
+                      String productStatus, String tradeStatus, boolean isDeleted,
+                      LocalDateTime createdAt, Long thumbnailFileId, Integer areaId) {
+    }
+}
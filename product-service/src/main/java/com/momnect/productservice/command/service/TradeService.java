@@ -2,13 +2,15 @@ package com.momnect.productservice.command.service;
 
 import com.momnect.productservice.command.client.FileClient;
 import com.momnect.productservice.command.client.dto.ImageFileDTO;
+import com.momnect.productservice.command.dto.area.AreaDto;
+import com.momnect.productservice.command.dto.product.ProductCursorResponse;
 import com.momnect.productservice.command.dto.product.ProductSummaryDto;
 import com.momnect.productservice.command.dto.trade.TradeSummaryDTO;
 import com.momnect.productservice.command.entity.image.ProductImage;
 import com.momnect.productservice.command.entity.product.Product;
 import com.momnect.productservice.command.entity.product.TradeStatus;
+import com.momnect.productservice.command.entity.trade.UserTradeStats;
 import com.momnect.productservice.command.repository.ProductRepository;
-import com.momnect.productservice.command.repository.WishlistRepository;
 import com.momnect.productservice.common.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,21 +18,28 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TradeService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final FileClient fileClient;
 
     private final ProductRepository productRepository;
-    private final WishlistRepository wishlistRepository;
+    private final WishlistIndex wishlistIndex;
 
     private final ProductService productService; // 주입받기
+    private final HomeSectionSnapshot homeSectionSnapshot;
+    private final ProductIndexService productIndexService;
+    private final UserTradeStatsService userTradeStatsService;
+    private final TradeListingReader tradeListingReader;
+    private final ImagePathResolver imagePathResolver;
+    private final AreaRegistry areaRegistry;
+    private final ChatCacheEvictor chatCacheEvictor;
 
     @Value("${ftp.base-url}")
     private String ftpBaseUrl;
@@ -42,30 +51,23 @@ public class TradeService {
 
     /**
      * 내 거래 현황 요약 조회 (구매수/판매수)
+     * - 유저별 거래 통계 집계 행 한 건 조회
      */
     @Transactional(readOnly = true)
     public TradeSummaryDTO getTradeSummary(Long userId, boolean isMyProfile) {
-        // 총 판매상품 수 (판매 완료 여부 상관없이 판매자가 올린 모든 상품)
-        Integer totalSalesCount = productRepository.countBySellerIdAndIsDeletedFalse(userId);
-
-        // 판매 완료 상품 수
-        Integer salesCount = productRepository.countByTradeStatusAndSellerId(
-                TradeStatus.SOLD, userId);
+        UserTradeStats stats = userTradeStatsService.get(userId);
 
         if (isMyProfile) {
-            // 구매 완료 상품 수
-            Integer purchaseCount = productRepository.countByTradeStatusAndBuyerId(TradeStatus.SOLD, userId);
-
             return TradeSummaryDTO.builder()
-                    .totalSalesCount(totalSalesCount)     // 총 판매상품 수
-                    .salesCount(salesCount)               // 판매 완료 상품 수
-                    .purchaseCount(purchaseCount)         // 구매 완료 상품 수
+                    .totalSalesCount(stats.getListingCount())     // 총 판매상품 수
+                    .salesCount(stats.getSoldCount())             // 판매 완료 상품 수
+                    .purchaseCount(stats.getPurchasedCount())     // 구매 완료 상품 수
                     .build();
         } else {
             // 타유저 거래 현황은 판매수만 리턴
             return TradeSummaryDTO.builder()
-                    .totalSalesCount(totalSalesCount)     // 총 판매상품 수
-                    .salesCount(salesCount)               // 판매 완료 상품 수
+                    .totalSalesCount(stats.getListingCount())     // 총 판매상품 수
+                    .salesCount(stats.getSoldCount())             // 판매 완료 상품 수
                     .build();
         }
     }
@@ -100,9 +102,40 @@ public class TradeService {
         return productService.toProductSummaryDtos(products, userId);
     }
 
+    /**
+     * 내 구매 상품 커서 조회 (최근 등록순)
+     */
+    @Transactional(readOnly = true)
+    public ProductCursorResponse getMyPurchasesByCursor(Long userId, String cursor, int size) {
+        int limit = clampPageSize(size);
+        return toCursorResponse(
+                tradeListingReader.findPurchases(userId, TradeCursorCodec.decode(cursor), limit + 1), limit, userId);
+    }
+
+    /**
+     * 내 판매 상품 커서 조회 (최근 등록순)
+     */
+    @Transactional(readOnly = true)
+    public ProductCursorResponse getMySalesByCursor(Long userId, String cursor, int size) {
+        int limit = clampPageSize(size);
+        return toCursorResponse(
+                tradeListingReader.findSales(userId, TradeCursorCodec.decode(cursor), limit + 1), limit, userId);
+    }
+
+    /**
+     * 특정 유저 판매 상품 커서 조회 (최근 등록순)
+     */
+    @Transactional(readOnly = true)
+    public ProductCursorResponse getUserSalesByCursor(Long userId, Long sellerId, String cursor, int size) {
+        int limit = clampPageSize(size);
+        return toCursorResponse(
+                tradeListingReader.findSales(sellerId, TradeCursorCodec.decode(cursor), limit + 1), limit, userId);
+    }
+
     /**
      * 상품 판매 완료 처리
      */
+    @Transactional
     public void completeSale(Long productId, Long sellerId, Long buyerId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
@@ -117,17 +150,24 @@ public class TradeService {
             throw new IllegalStateException("이미 판매 완료된 상품입니다.");
         }
 
-        // 거래 상태 변경
+        // 거래 상태 변경: 읽은 상태 그대로일 때만 갱신 (동시 요청은 한 건만 성공 → 통계 중복 반영 방지)
+        TradeStatus previousStatus = product.getTradeStatus();
         LocalDateTime now = LocalDateTime.now();
+        if (productRepository.markSoldIf(productId, previousStatus, buyerId, now, sellerId) != 1) {
+            throw new IllegalStateException("상품 거래 상태가 이미 변경되었습니다. 다시 시도해 주세요.");
+        }
+        // 변경 후 값으로 통계 반영 (영속성 컨텍스트는 비워졌으므로 추가 UPDATE 없음)
         product.setTradeStatus(TradeStatus.SOLD);
         product.setBuyerId(buyerId);
         product.setSoldAt(now);
 
-        // 업데이트 정보 갱신
-        product.setUpdatedAt(now);
-        product.setUpdatedBy(sellerId);
+        // 판매자 판매 완료 수 / 구매자 구매 수 반영
+        userTradeStatsService.tradeStatusChanged(product, previousStatus);
 
-        productRepository.save(product);
+        // 검색 색인 반영 + 홈 섹션에서 판매완료 상품 제외 + 채팅 화면 상품 상태 갱신
+        productIndexService.enqueue(productId);
+        homeSectionSnapshot.requestRefresh();
+        chatCacheEvictor.evictProductsAfterCommit(List.of(productId));
     }
 
 
@@ -149,20 +189,74 @@ public class TradeService {
             throw new IllegalStateException("판매자만 상품 거래 상태를 변경할 수 있습니다.");
         }
 
-        // 상태 변경
+        // 상태 변경: 읽은 상태 그대로일 때만 갱신 (동시 요청은 한 건만 성공 → 통계 중복 반영 방지)
+        TradeStatus previousStatus = product.getTradeStatus();
+        LocalDateTime now = LocalDateTime.now();
+        if (productRepository.updateTradeStatusIf(productId, previousStatus, newStatus, now, userId) != 1) {
+            throw new IllegalStateException("상품 거래 상태가 이미 변경되었습니다. 다시 시도해 주세요.");
+        }
+        // 변경 후 값으로 통계 반영 (영속성 컨텍스트는 비워졌으므로 추가 UPDATE 없음)
         product.setTradeStatus(newStatus);
 
-        // 업데이트 정보 갱신
-        LocalDateTime now = LocalDateTime.now();
-        product.setUpdatedAt(now);
-        product.setUpdatedBy(userId);
+        // 판매 완료로 바뀐 경우 거래 통계 반영
+        userTradeStatsService.tradeStatusChanged(product, previousStatus);
+
+        // 검색 색인 반영 + 홈 섹션 스냅샷 갱신 요청 + 채팅 화면 상품 상태 갱신
+        productIndexService.enqueue(productId);
+        homeSectionSnapshot.requestRefresh();
+        chatCacheEvictor.evictProductsAfterCommit(List.of(productId));
+    }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 
-        productRepository.save(product);
+    // 슬림 프로젝션 → 요약 DTO (썸네일 경로는 이미지 경로 캐시, 읍면동은 지역 레지스트리)
+    private ProductCursorResponse toCursorResponse(List<TradeListingReader.Row> rows, int limit, Long userId) {
+        boolean hasNext = rows.size() > limit;
+        List<TradeListingReader.Row> page = hasNext ? rows.subList(0, limit) : rows;
+
+        Map<Long, String> paths = imagePathResolver.resolve(page.stream()
+                .map(TradeListingReader.Row::thumbnailFileId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        Map<Integer, String> emdById = areaRegistry.findAll(page.stream()
+                        .map(TradeListingReader.Row::areaId)
+                        .filter(Objects::nonNull)
+                        .toList()).stream()
+                .collect(Collectors.toMap(AreaDto::getId, AreaDto::getEmd));
+        Set<Long> wishlistIds = userId != null ? wishlistIndex.productIdsOf(userId) : Set.of();
+
+        List<ProductSummaryDto> content = page.stream()
+                .map(row -> ProductSummaryDto.builder()
+                        .id(row.id())
+                        .sellerId(row.sellerId())
+                        .name(row.name())
+                        .thumbnailUrl(row.thumbnailFileId() != null
+                                ? toAbsoluteUrl(paths.get(row.thumbnailFileId())) : null)
+                        .inWishlist(wishlistIds.contains(row.id()))
+                        .price(row.price())
+                        .emd(row.areaId() != null ? emdById.get(row.areaId()) : null)
+                        .createdAt(row.createdAt())
+                        .productStatus(row.productStatus())
+                        .tradeStatus(row.tradeStatus())
+                        .isDeleted(row.isDeleted())
+                        .hasWrittenReview(false)
+                        .build())
+                .toList();
+
+        TradeListingReader.Row last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return ProductCursorResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? TradeCursorCodec.encode(last.createdAt(), last.id()) : null)
+                .hasNext(hasNext)
+                .size(content.size())
+                .build();
     }
 
     // 찜 여부 체크
     private Boolean inWishlist(Long productId, Long userId) {
         if (userId == null) return false; // 로그인 안한 경우
-        return wishlistRepository.existsByProductIdAndUserId(productId, userId);
+        return wishlistIndex.contains(userId, productId);
     }
 }
@@ -0,0 +1,189 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.entity.product.Product;
+import com.momnect.productservice.command.entity.product.TradeStatus;
+import com.momnect.productservice.command.entity.trade.UserTradeStats;
+import com.momnect.productservice.command.repository.UserTradeStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 거래 통계 집계 (tbl_user_trade_stats)
+ * - 상품 등록/판매 완료/거래 상태 변경 시 호출자 트랜잭션 안에서 원자적 증감 (upsert)
+ * - 주기적으로 tbl_product 기준 전체 재계산해 어긋난 값 보정
+ *   · 집계와 현재 통계를 한 스냅샷에서 잠금 없이 읽고, 차이만 증감으로 반영
+ *   · tbl_product 에 공유 잠금을 걸지 않아 등록/판매 완료를 막지 않고, 그 사이 커밋된 증감도 유지됨
+ * - 조회는 PK 한 건
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserTradeStatsService {
+
+    private static final String APPLY_DELTA_SQL =
+            "INSERT INTO tbl_user_trade_stats "
+                    + "(user_id, listing_count, active_count, sold_count, purchased_count, updated_at) "
+                    + "VALUES (?, GREATEST(?, 0), GREATEST(?, 0), GREATEST(?, 0), GREATEST(?, 0), NOW()) "
+                    + "ON DUPLICATE KEY UPDATE "
+                    + "listing_count = GREATEST(listing_count + ?, 0), "
+                    + "active_count = GREATEST(active_count + ?, 0), "
+                    + "sold_count = GREATEST(sold_count + ?, 0), "
+                    + "purchased_count = GREATEST(purchased_count + ?, 0), "
+                    + "updated_at = NOW()";
+
+    // 판매자/구매자 기준 집계 (일반 SELECT → 잠금 없는 consistent read)
+    private static final String AGGREGATE_SQL =
+            "SELECT s.user_id, SUM(s.listing) AS listing_count, SUM(s.active) AS active_count, "
+                    + "SUM(s.sold) AS sold_count, SUM(s.purchased) AS purchased_count FROM ("
+                    + "  SELECT seller_id AS user_id, "
+                    + "         (is_deleted = 0) AS listing, "
+                    + "         (is_deleted = 0 AND trade_status <> 'SOLD') AS active, "
+                    + "         (trade_status = 'SOLD') AS sold, "
+                    + "         0 AS purchased "
+                    + "  FROM tbl_product "
+                    + "  UNION ALL "
+                    + "  SELECT buyer_id, 0, 0, 0, 1 FROM tbl_product "
+                    + "  WHERE trade_status = 'SOLD' AND buyer_id IS NOT NULL"
+                    + ") s GROUP BY s.user_id";
+
+    private static final String SNAPSHOT_SQL =
+            "SELECT user_id, listing_count, active_count, sold_count, purchased_count FROM tbl_user_trade_stats";
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserTradeStatsRepository userTradeStatsRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 유저 거래 통계 (집계 행이 없으면 0)
+     */
+    public UserTradeStats get(Long userId) {
+        return userTradeStatsRepository.findById(userId)
+                .orElseGet(() -> UserTradeStats.empty(userId));
+    }
+
+    /**
+     * 상품 등록 반영 (판매자별 합산 후 upsert)
+     */
+    public void productsCreated(Collection<Product> products) {
+        Map<Long, Long> listingsBySeller = products.stream()
+                .filter(p -> !Boolean.TRUE.equals(p.getIsDeleted()))
+                .collect(Collectors.groupingBy(Product::getSellerId, Collectors.counting()));
+        Map<Long, Long> activeBySeller = products.stream()
+                .filter(p -> !Boolean.TRUE.equals(p.getIsDeleted()) && p.getTradeStatus() != TradeStatus.SOLD)
+                .collect(Collectors.groupingBy(Product::getSellerId, Collectors.counting()));
+        Map<Long, Long> soldBySeller = products.stream()
+                .filter(p -> p.getTradeStatus() == TradeStatus.SOLD)
+                .collect(Collectors.groupingBy(Product::getSellerId, Collectors.counting()));
+
+        for (Long sellerId : products.stream().map(Product::getSellerId).distinct().toList()) {
+            applyDelta(sellerId,
+                    listingsBySeller.getOrDefault(sellerId, 0L).intValue(),
+                    activeBySeller.getOrDefault(sellerId, 0L).intValue(),
+                    soldBySeller.getOrDefault(sellerId, 0L).intValue(),
+                    0);
+        }
+    }
+
+    /**
+     * 거래 상태 변경 반영 (변경 전 상태 기준으로 판매 중/판매 완료 수 이동)
+     *
+     * @param product        변경 후 상품
+     * @param previousStatus 변경 전 거래 상태
+     */
+    public void tradeStatusChanged(Product product, TradeStatus previousStatus) {
+        boolean wasSold = previousStatus == TradeStatus.SOLD;
+        boolean isSold = product.getTradeStatus() == TradeStatus.SOLD;
+        if (wasSold == isSold) return;
+
+        int direction = isSold ? 1 : -1;
+        int activeDelta = Boolean.TRUE.equals(product.getIsDeleted()) ? 0 : -direction;
+        applyDelta(product.getSellerId(), 0, activeDelta, direction, 0);
+
+        if (product.getBuyerId() != null) {
+            applyDelta(product.getBuyerId(), 0, 0, 0, direction);
+        }
+    }
+
+    /**
+     * tbl_product 기준 전체 재계산 (기동 직후 + 주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${product.trade-stats.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+        try {
+            // 같은 트랜잭션(REPEATABLE READ) 안의 두 SELECT 는 같은 시점 스냅샷을 읽음
+            TransactionTemplate snapshotTx = new TransactionTemplate(transactionManager);
+            snapshotTx.setReadOnly(true);
+            snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            List<Object[]> deltas = snapshotTx.execute(status -> {
+                Map<Long, Counts> expected = readCounts(AGGREGATE_SQL);
+                Map<Long, Counts> current = readCounts(SNAPSHOT_SQL);
+                return diff(expected, current);
+            });
+
+            for (int from = 0; from < deltas.size(); from += RECONCILE_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(APPLY_DELTA_SQL,
+                        deltas.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, deltas.size())));
+            }
+            log.info("거래 통계 재계산 완료 - corrected: {}, elapsed: {}ms",
+                    deltas.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("거래 통계 재계산 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    // ------------ internal --------------
+
+    private Map<Long, Counts> readCounts(String sql) {
+        Map<Long, Counts> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            long userId = rs.getLong("user_id");
+            if (rs.wasNull()) return;
+            counts.put(userId, new Counts(
+                    rs.getLong("listing_count"), rs.getLong("active_count"),
+                    rs.getLong("sold_count"), rs.getLong("purchased_count")));
+        });
+        return counts;
+    }
+
+    // 기대값 - 현재값 (집계에 없는 유저는 0 으로 맞춤), APPLY_DELTA_SQL 인자 형태
+    private static List<Object[]> diff(Map<Long, Counts> expected, Map<Long, Counts> current) {
+        Set<Long> userIds = new HashSet<>(expected.keySet());
+        userIds.addAll(current.keySet());
+
+        List<Object[]> deltas = new ArrayList<>();
+        for (Long userId : userIds) {
+            Counts e = expected.getOrDefault(userId, Counts.ZERO);
+            Counts c = current.getOrDefault(userId, Counts.ZERO);
+            long listings = e.listing() - c.listing();
+            long active = e.active() - c.active();
+            long sold = e.sold() - c.sold();
+            long purchased = e.purchased() - c.purchased();
+            if (listings == 0 && active == 0 && sold == 0 && purchased == 0) continue;
+            deltas.add(new Object[]{userId, listings, active, sold, purchased, listings, active, sold, purchased});
+        }
+        return deltas;
+    }
+
+    private void applyDelta(Long userId, int listings, int active, int sold, int purchased) {
+        if (userId == null || (listings == 0 && active == 0 && sold == 0 && purchased == 0)) return;
+        jdbcTemplate.update(APPLY_DELTA_SQL,
+                userId, listings, active, sold, purchased,
+                listings, active, sold, purchased);
+    }
+
+    private record Counts(long listing, long active, long sold, long purchased) {
+        static final Counts ZERO = new Counts(0, 0, 0, 0);
+    }
+}
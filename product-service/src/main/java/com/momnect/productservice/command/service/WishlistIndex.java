@@ -0,0 +1,265 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.repository.WishlistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 찜 인덱스 (프로세스 내 저장소, Redis SET/ZSET 과 같은 역할)
+ * - 유저별 찜 상품: 정렬된 long[] (contains 는 이진 탐색, 변경 시 배열 교체)
+ * - 상품별 찜 수: 찜/찜취소 시 증감
+ * - 찜 수 랭킹: (찜 수 desc, 상품 id asc) 정렬 집합 → 상위 N 조회
+ * - 주기적으로 MySQL 에서 다시 만들어 교체 (다른 인스턴스의 변경분 반영), 재생성 중 변경은 기록 후 재적용
+ * - 첫 적재 전에는 DB 조회로 대체
+ */
+@Slf4j
+@Component
+public class WishlistIndex {
+
+    private static final String LOAD_SQL = "SELECT user_id, product_id FROM tbl_wishlist";
+    private static final long[] EMPTY = new long[0];
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WishlistRepository wishlistRepository;
+
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile State state;   // 첫 적재 전에는 null
+    private volatile Queue<Mutation> journal;
+
+    public WishlistIndex(JdbcTemplate jdbcTemplate, WishlistRepository wishlistRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.wishlistRepository = wishlistRepository;
+    }
+
+    /**
+     * 찜 추가 반영 (DB 저장 이후 호출)
+     */
+    public void added(Long userId, Long productId) {
+        apply(new Mutation(userId, productId, true));
+    }
+
+    /**
+     * 찜 취소 반영 (DB 삭제 이후 호출)
+     */
+    public void removed(Long userId, Long productId) {
+        apply(new Mutation(userId, productId, false));
+    }
+
+    /**
+     * 첫 적재 완료 여부 (false 면 조회가 DB 로 대체됨)
+     */
+    public boolean isReady() {
+        return state != null;
+    }
+
+    /**
+     * 유저가 상품을 찜했는지 여부
+     */
+    public boolean contains(Long userId, Long productId) {
+        if (userId == null || productId == null) return false;
+        State s = state;
+        if (s == null) return wishlistRepository.existsByUserIdAndProductId(userId, productId);
+        return Arrays.binarySearch(s.members.getOrDefault(userId, EMPTY), productId) >= 0;
+    }
+
+    /**
+     * 유저가 찜한 상품 ID 집합 (읽기 전용, 복사 없이 현재 배열을 감쌈)
+     */
+    public Set<Long> productIdsOf(Long userId) {
+        if (userId == null) return Set.of();
+        State s = state;
+        if (s == null) return wishlistRepository.findProductIdsByUserId(userId);
+        return new SortedIdSet(s.members.getOrDefault(userId, EMPTY));
+    }
+
+    /**
+     * 상품 찜 수
+     */
+    public long count(Long productId) {
+        State s = state;
+        if (s == null) return wishlistRepository.countByProductId(productId);
+        return s.counts.getOrDefault(productId, 0L);
+    }
+
+    /**
+     * 찜 수 상위 상품 ID (찜 수 desc, 같으면 id asc)
+     */
+    public List<Long> topProductIds(int limit) {
+        State s = state;
+        if (s == null) return wishlistRepository.findTopProductIdsByLikeCount(PageRequest.of(0, limit));
+
+        List<Long> ids = new ArrayList<>(limit);
+        for (Rank rank : s.leaderboard) {
+            if (ids.size() >= limit) break;
+            ids.add(rank.productId());
+        }
+        return ids;
+    }
+
+    /**
+     * MySQL 에서 인덱스 재생성 (기동 직후 + 주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${product.wishlist-index.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+
+        swapLock.writeLock().lock();
+        try {
+            journal = new ConcurrentLinkedQueue<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        try {
+            Map<Long, List<Long>> byUser = new HashMap<>();
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                byUser.computeIfAbsent(rs.getLong("user_id"), k -> new ArrayList<>()).add(rs.getLong("product_id"));
+            });
+
+            State rebuilt = new State();
+            byUser.forEach((userId, productIds) -> {
+                long[] ids = productIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+                rebuilt.members.put(userId, ids);
+                for (long productId : ids) {
+                    rebuilt.counts.merge(productId, 1L, Long::sum);
+                }
+            });
+            rebuilt.counts.forEach((productId, count) -> rebuilt.leaderboard.add(new Rank(count, productId)));
+
+            swapLock.writeLock().lock();
+            try {
+                // 스캔 중 들어온 변경 재적용 (멤버십 기준이라 중복 적용해도 결과 동일)
+                for (Mutation m : journal) {
+                    rebuilt.apply(m);
+                }
+                state = rebuilt;
+            } finally {
+                journal = null;
+                swapLock.writeLock().unlock();
+            }
+
+            log.info("찜 인덱스 재생성 완료 - users: {}, products: {}, elapsed: {}ms",
+                    rebuilt.members.size(), rebuilt.counts.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            journal = null;
+            log.warn("찜 인덱스 재생성 실패 (기존 인덱스 유지)", e);
+        }
+    }
+
+    // ------------ internal --------------
+
+    private void apply(Mutation mutation) {
+        if (mutation.userId() == null || mutation.productId() == null) return;
+
+        swapLock.readLock().lock();
+        try {
+            State s = state;
+            if (s != null) s.apply(mutation);
+
+            Queue<Mutation> pending = journal;
+            if (pending != null) pending.add(mutation);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private record Mutation(Long userId, Long productId, boolean add) {
+    }
+
+    // 찜 수 랭킹 항목 (찜 수 desc, 상품 id asc)
+    private record Rank(long count, long productId) implements Comparable<Rank> {
+        @Override
+        public int compareTo(Rank o) {
+            int c = Long.compare(o.count, count);
+            return c != 0 ? c : Long.compare(productId, o.productId);
+        }
+    }
+
+    private static final class State {
+
+        final ConcurrentHashMap<Long, long[]> members = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<Long, Long> counts = new ConcurrentHashMap<>();
+        final ConcurrentSkipListSet<Rank> leaderboard = new ConcurrentSkipListSet<>();
+
+        void apply(Mutation m) {
+            boolean[] changed = new boolean[1];
+            members.compute(m.userId(), (userId, ids) -> {
+                long[] current = ids != null ? ids : EMPTY;
+                int pos = Arrays.binarySearch(current, m.productId());
+                if (m.add() && pos < 0) {
+                    changed[0] = true;
+                    return insertAt(current, -pos - 1, m.productId());
+                }
+                if (!m.add() && pos >= 0) {
+                    changed[0] = true;
+                    long[] next = removeAt(current, pos);
+                    return next.length == 0 ? null : next;
+                }
+                return ids;
+            });
+
+            if (changed[0]) {
+                long delta = m.add() ? 1 : -1;
+                counts.compute(m.productId(), (productId, old) -> {
+                    long before = old != null ? old : 0L;
+                    long after = Math.max(0L, before + delta);
+                    if (before > 0) leaderboard.remove(new Rank(before, productId));
+                    if (after > 0) leaderboard.add(new Rank(after, productId));
+                    return after > 0 ? after : null;
+                });
+            }
+        }
+
+        private static long[] insertAt(long[] array, int index, long value) {
+            long[] next = new long[array.length + 1];
+            System.arraycopy(array, 0, next, 0, index);
+            next[index] = value;
+            System.arraycopy(array, index, next, index + 1, array.length - index);
+            return next;
+        }
+
+        private static long[] removeAt(long[] array, int index) {
+            long[] next = new long[array.length - 1];
+            System.arraycopy(array, 0, next, 0, index);
+            System.arraycopy(array, index + 1, next, index, array.length - index - 1);
+            return next;
+        }
+    }
+
+    /**
+     * 정렬된 long[] 를 감싼 읽기 전용 Set
+     */
+    private static final class SortedIdSet extends AbstractSet<Long> {
+
+        private final long[] ids;
+
+        SortedIdSet(long[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Long id && Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        @Override
+        public Iterator<Long> iterator() {
+            return Arrays.stream(ids).iterator();
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+}
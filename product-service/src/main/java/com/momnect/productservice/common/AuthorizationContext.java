@@ -0,0 +1,30 @@
+package com.momnect.productservice.common;
+
+/**
+ * 요청 스레드 밖(병렬 조회 워커)에서 Feign 호출 시 사용할 Authorization 헤더 보관
+ * - 서블릿 요청 객체는 다른 스레드에서 읽지 않고, 요청 스레드에서 꺼낸 헤더 값만 전달
+ */
+public final class AuthorizationContext {
+
+    private static final ThreadLocal<String> AUTHORIZATION = new ThreadLocal<>();
+
+    private AuthorizationContext() {
+    }
+
+    public static String get() {
+        return AUTHORIZATION.get();
+    }
+
+    /**
+     * 값 설정 후 이전 값 반환 (복원용)
+     */
+    public static String set(String authorization) {
+        String previous = AUTHORIZATION.get();
+        if (authorization != null) {
+            AUTHORIZATION.set(authorization);
+        } else {
+            AUTHORIZATION.remove();
+        }
+        return previous;
+    }
+}
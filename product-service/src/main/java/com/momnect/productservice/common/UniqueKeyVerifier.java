@@ -0,0 +1,57 @@
+package com.momnect.productservice.common;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멱등 upsert 가 기대는 유니크 키 확인 (기동 시 1회)
+ * - 지역 적재(ON DUPLICATE KEY), 해시태그 저장(INSERT IGNORE)은 유니크 키가 없으면 매번 중복 행을 만듦
+ * - ddl-auto: update 는 기존 중복 행이 있으면 키 생성에 실패하고 경고만 남기므로 여기서 기동을 중단
+ * - 복구: classpath:db/unique-keys-migration.sql 로 중복 정리 + 키 추가 후 재기동
+ */
+@Slf4j
+@Component
+public class UniqueKeyVerifier {
+
+    private static final String FIND_UNIQUE_INDEX_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics "
+                    + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? AND non_unique = 0";
+
+    // 테이블 → 유니크 키 이름 (엔티티 @UniqueConstraint 와 같아야 함)
+    private static final Map<String, String> REQUIRED_KEYS = new LinkedHashMap<>();
+
+    static {
+        REQUIRED_KEYS.put("tbl_area", "uk_area_code");
+        REQUIRED_KEYS.put("tbl_hashtag", "uk_hashtag_name");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory 주입: Hibernate 스키마 갱신이 끝난 뒤 확인하기 위함
+    public UniqueKeyVerifier(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void verify() {
+        List<String> missing = new ArrayList<>();
+        REQUIRED_KEYS.forEach((table, key) -> {
+            Integer count = jdbcTemplate.queryForObject(FIND_UNIQUE_INDEX_SQL, Integer.class, table, key);
+            if (count == null || count == 0) missing.add(table + "." + key);
+        });
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("유니크 키가 없어 upsert 가 중복 행을 만듭니다: " + missing
+                    + " - db/unique-keys-migration.sql 로 중복 정리 후 다시 기동하세요.");
+        }
+        log.info("유니크 키 확인 완료 - {}", REQUIRED_KEYS.values());
+    }
+}
@@ -1,5 +1,6 @@
 package com.momnect.productservice.config;
 
+import com.momnect.productservice.common.AuthorizationContext;
 import feign.RequestInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,6 +32,10 @@ public class FeignClientConfig {
                     // Feign client 요청에 "Authorization" 헤더 추가
                     requestTemplate.header(HttpHeaders.AUTHORIZATION, authorizationHeader);
                 }
+            } else if (AuthorizationContext.get() != null) {
+
+                // 2. 병렬 조회 워커 스레드 (요청 스레드에서 전달받은 헤더 사용)
+                requestTemplate.header(HttpHeaders.AUTHORIZATION, AuthorizationContext.get());
             }
         };
     }
@@ -42,6 +42,7 @@ public class SecurityConfig {
                                         "/products/**",            // 상품 상세/요약/검색/섹션 조회
                                         "/trades/users/*/summary", // 상품 거래 횟수
                                         "/trades/users/*/sales",   // 유저 판매 상품 조회
+                                        "/trades/users/*/sales/cursor",
 
                                         "/swagger-ui/**",
                                         "/v3/api-docs/**",
@@ -54,7 +55,8 @@ public class SecurityConfig {
                                 )
                                 .permitAll()
                                 .requestMatchers(HttpMethod.POST,
-                                        "/products/search"
+                                        "/products/search",
+                                        "/products/search/cursor"
                                 )
                                 .permitAll()
                                 .anyRequest()
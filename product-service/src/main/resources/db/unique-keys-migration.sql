@@ -0,0 +1,74 @@
+-- 지역 코드 / 해시태그 이름 유니크 키 마이그레이션 (MySQL, 수동 실행)
+-- - 지역 적재/해시태그 저장의 ON DUPLICATE KEY, INSERT IGNORE 는 이 유니크 키가 있어야 멱등
+-- - ddl-auto: update 는 중복 행이 있으면 유니크 키를 만들지 못함 → 기동 시 UniqueKeyVerifier 가 실패시킴
+-- - 중복은 가장 작은 id 를 남기고, 상품 쪽 참조를 남는 id 로 옮긴 뒤 삭제
+-- - 같은 세션에서 순서대로 실행 (임시 테이블 사용), 여러 번 실행해도 결과 동일
+
+-- =========================
+-- 1. 지역 (tbl_area.code)
+-- =========================
+CREATE TEMPORARY TABLE tmp_area_dup
+(
+    dup_id  INT PRIMARY KEY,
+    keep_id INT NOT NULL
+);
+
+INSERT INTO tmp_area_dup (dup_id, keep_id)
+SELECT a.id, k.keep_id
+FROM tbl_area a
+         JOIN (SELECT code, MIN(id) AS keep_id FROM tbl_area GROUP BY code HAVING COUNT(*) > 1) k
+              ON k.code = a.code
+WHERE a.id <> k.keep_id;
+
+-- user-service tbl_user.trade_area_ids 는 다른 DB 의 문자열 컬럼이라 여기서 옮기지 못함
+-- 이 결과를 보관해 두고 해당 유저의 거래지역 id 를 keep_id 로 바꿔야 함
+SELECT dup_id, keep_id FROM tmp_area_dup ORDER BY dup_id;
+
+-- 거래지역 id 가 바뀌는 상품은 검색 색인 다시 반영
+INSERT INTO tbl_product_index_outbox (product_id, attempts, created_at)
+SELECT DISTINCT t.product_id, 0, NOW()
+FROM tbl_product_trade_area t JOIN tmp_area_dup d ON t.area_id = d.dup_id;
+
+-- 상품 거래지역: 이미 keep_id 행이 있으면 IGNORE 로 건너뛰고 남은 중복 행은 삭제
+UPDATE IGNORE tbl_product_trade_area t JOIN tmp_area_dup d ON t.area_id = d.dup_id
+SET t.area_id = d.keep_id;
+DELETE t FROM tbl_product_trade_area t JOIN tmp_area_dup d ON t.area_id = d.dup_id;
+
+UPDATE tbl_area c JOIN tmp_area_dup d ON c.parent_id = d.dup_id
+SET c.parent_id = d.keep_id;
+
+-- 이웃 목록은 다음 지역 적재 때 다시 계산됨
+DELETE n FROM tbl_area_neighbor n JOIN tmp_area_dup d ON n.area_id = d.dup_id OR n.neighbor_id = d.dup_id;
+
+DELETE a FROM tbl_area a JOIN tmp_area_dup d ON a.id = d.dup_id;
+
+DROP TEMPORARY TABLE tmp_area_dup;
+
+-- 이미 있으면 "Duplicate key name" 오류 → 무시
+ALTER TABLE tbl_area ADD CONSTRAINT uk_area_code UNIQUE (code);
+
+-- =========================
+-- 2. 해시태그 (tbl_hashtag.name)
+-- =========================
+CREATE TEMPORARY TABLE tmp_hashtag_dup
+(
+    dup_id  BIGINT PRIMARY KEY,
+    keep_id BIGINT NOT NULL
+);
+
+INSERT INTO tmp_hashtag_dup (dup_id, keep_id)
+SELECT h.id, k.keep_id
+FROM tbl_hashtag h
+         JOIN (SELECT name, MIN(id) AS keep_id FROM tbl_hashtag GROUP BY name HAVING COUNT(*) > 1) k
+              ON k.name = h.name
+WHERE h.id <> k.keep_id;
+
+UPDATE IGNORE tbl_product_hashtag ph JOIN tmp_hashtag_dup d ON ph.hashtag_id = d.dup_id
+SET ph.hashtag_id = d.keep_id;
+DELETE ph FROM tbl_product_hashtag ph JOIN tmp_hashtag_dup d ON ph.hashtag_id = d.dup_id;
+
+DELETE h FROM tbl_hashtag h JOIN tmp_hashtag_dup d ON h.id = d.dup_id;
+
+DROP TEMPORARY TABLE tmp_hashtag_dup;
+
+ALTER TABLE tbl_hashtag ADD CONSTRAINT uk_hashtag_name UNIQUE (name);
@@ -0,0 +1,202 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.momnect.productservice.command.client.FileClient;
+import com.momnect.productservice.command.client.ReviewClient;
+import com.momnect.productservice.command.client.UserClient;
+import com.momnect.productservice.command.entity.area.Area;
+import com.momnect.productservice.command.entity.area.AreaLevel;
+import com.momnect.productservice.command.entity.area.ProductTradeArea;
+import com.momnect.productservice.command.entity.area.ProductTradeAreaId;
+import com.momnect.productservice.command.entity.image.ProductImage;
+import com.momnect.productservice.command.entity.image.ProductImageId;
+import com.momnect.productservice.command.entity.product.*;
+import com.momnect.productservice.command.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 판매/구매/찜 목록 쿼리 수 (H2, Hibernate Statistics)
+ * - 상품 수와 관계없이 같은 수의 쿼리로 조회되는지 확인 (N+1 회귀 방지)
+ */
+@DataJpaTest(properties = {
+        "ftp.base-url=http://ftp.test/",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.default_batch_fetch_size=100",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class ListingQueryCountTest {
+
+    private static final int FEW = 2;
+    private static final int MANY = 30;
+
+    // 메인 클래스의 Feign/스케줄링 설정 없이 JPA + 목록 서비스만 로딩
+    @Configuration
+    @EntityScan(basePackageClasses = {Product.class, Area.class, ProductImage.class})
+    @EnableJpaRepositories(basePackageClasses = ProductRepository.class)
+    @Import({ProductService.class, TradeService.class})
+    static class Config {
+    }
+
+    @MockitoBean UserClient userClient;
+    @MockitoBean ReviewClient reviewClient;
+    @MockitoBean FileClient fileClient;
+    @MockitoBean ElasticsearchClient esClient;
+    @MockitoBean ImagePathResolver imagePathResolver;
+    @MockitoBean HomeSectionSnapshot homeSectionSnapshot;
+    @MockitoBean ProductViewCounter productViewCounter;
+    @MockitoBean ProductIndexService productIndexService;
+    @MockitoBean AreaRegistry areaRegistry;
+    @MockitoBean ProductChildWriter productChildWriter;
+    @MockitoBean WishlistIndex wishlistIndex;
+    @MockitoBean ParallelLookupExecutor parallelLookupExecutor;
+    @MockitoBean RecommendationEngine recommendationEngine;
+    @MockitoBean UserTradeStatsService userTradeStatsService;
+    @MockitoBean CategoryTree categoryTree;
+    @MockitoBean SimilarProductCache similarProductCache;
+    @MockitoBean TradeListingReader tradeListingReader;
+    @MockitoBean ChatCacheEvictor chatCacheEvictor;
+
+    @Autowired TestEntityManager em;
+    @Autowired EntityManagerFactory emf;
+    @Autowired ProductService productService;
+    @Autowired TradeService tradeService;
+
+    private ProductCategory category;
+    private Area area;
+    private long nextImageFileId = 1;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        category = em.persist(ProductCategory.builder()
+                .name("장난감").createdAt(now).updatedAt(now).createBy(1L).updateBy(1L).build());
+        area = em.persist(Area.builder()
+                .code("1111010100").name("청운동").level(AreaLevel.EMD)
+                .createdAt(now).updatedAt(now).createBy(1L).updateBy(1L).build());
+    }
+
+    @Test
+    void mySalesRunConstantQueries() {
+        seed(FEW, 101L, null, null);
+        seed(MANY, 102L, null, null);
+
+        assertConstant(
+                () -> tradeService.getMySales(101L),
+                () -> tradeService.getMySales(102L));
+    }
+
+    @Test
+    void userSalesRunConstantQueries() {
+        seed(FEW, 201L, null, null);
+        seed(MANY, 202L, null, null);
+
+        assertConstant(
+                () -> tradeService.getUserSales(999L, 201L),
+                () -> tradeService.getUserSales(999L, 202L));
+    }
+
+    @Test
+    void myPurchasesRunConstantQueries() {
+        seed(FEW, 300L, 301L, null);
+        seed(MANY, 300L, 302L, null);
+
+        assertConstant(
+                () -> tradeService.getMyPurchases(301L),
+                () -> tradeService.getMyPurchases(302L));
+    }
+
+    @Test
+    void myWishlistRunsConstantQueries() {
+        seed(FEW, 400L, null, 401L);
+        seed(MANY, 400L, null, 402L);
+
+        assertConstant(
+                () -> productService.getMyWishlist(401L),
+                () -> productService.getMyWishlist(402L));
+    }
+
+    // ------------ internal --------------
+
+    // 적은 목록/많은 목록의 쿼리 수가 같고, 건수만큼 결과가 나오는지
+    private void assertConstant(Supplier<List<?>> few, Supplier<List<?>> many) {
+        em.flush();
+
+        long fewQueries = countQueries(few, FEW);
+        long manyQueries = countQueries(many, MANY);
+
+        assertThat(manyQueries).isEqualTo(fewQueries);
+        // 목록 + 이미지 + (필요 시) 거래지역/지역 배치 조회
+        assertThat(fewQueries).isLessThanOrEqualTo(4);
+    }
+
+    private long countQueries(Supplier<List<?>> listing, int expectedSize) {
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<?> result = listing.get();
+
+        assertThat(result).hasSize(expectedSize);
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 상품 count 개 (이미지 2장, 거래지역 1곳), buyerId 가 있으면 판매 완료, wishlistUserId 가 있으면 찜
+    private void seed(int count, Long sellerId, Long buyerId, Long wishlistUserId) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            Product product = em.persist(Product.builder()
+                    .category(category)
+                    .sellerId(sellerId)
+                    .buyerId(buyerId)
+                    .name("상품 " + i)
+                    .content("내용")
+                    .price(10_000)
+                    .productStatus(ProductStatus.USED)
+                    .tradeStatus(buyerId != null ? TradeStatus.SOLD : TradeStatus.ON_SALE)
+                    .recommendedAge(RecommendedAge.values()[0])
+                    .viewCount(0)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .createdBy(sellerId)
+                    .updatedBy(sellerId)
+                    .build());
+
+            for (int order = 1; order <= 2; order++) {
+                em.persist(ProductImage.builder()
+                        .id(new ProductImageId(product.getId(), nextImageFileId++))
+                        .sortOrder(order)
+                        .product(product)
+                        .build());
+            }
+            em.persist(ProductTradeArea.builder()
+                    .id(new ProductTradeAreaId(product.getId(), area.getId()))
+                    .sortOrder(1)
+                    .product(product)
+                    .area(area)
+                    .build());
+
+            if (wishlistUserId != null) {
+                em.persist(Wishlist.builder().product(product).userId(wishlistUserId).build());
+            }
+        }
+    }
+}
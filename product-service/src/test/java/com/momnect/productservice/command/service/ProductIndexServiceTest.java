@@ -0,0 +1,125 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.util.ObjectBuilder;
+import com.momnect.productservice.command.entity.product.ProductIndexOutbox;
+import com.momnect.productservice.command.repository.ProductIndexOutboxRepository;
+import com.momnect.productservice.command.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * 색인 outbox 워커 (ES 는 mock)
+ */
+class ProductIndexServiceTest {
+
+    private ElasticsearchClient esClient;
+    private ProductIndexOutboxRepository outboxRepository;
+    private SimilarProductCache similarProductCache;
+    private ProductIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        esClient = mock(ElasticsearchClient.class);
+        outboxRepository = mock(ProductIndexOutboxRepository.class);
+        similarProductCache = mock(SimilarProductCache.class);
+
+        // DB 에 없는 상품 → delete 요청으로 색인 (문서 변환 없이 파이프라인만 검증)
+        service = new ProductIndexService(
+                esClient,
+                mock(ProductRepository.class),
+                outboxRepository,
+                mock(ImagePathResolver.class),
+                similarProductCache,
+                mock(PlatformTransactionManager.class),
+                500,
+                10);
+    }
+
+    @Test
+    void drainOutboxDeletesIndexedEventsAndIncrementsAttemptsOfFailedOnes() throws IOException {
+        when(outboxRepository.findByAttemptsLessThanOrderByIdAsc(anyInt(), any()))
+                .thenReturn(List.of(event(10L, 1L), event(11L, 2L)));
+        when(esClient.bulk(any(Function.class))).thenReturn(BulkResponse.of(r -> r
+                .errors(true)
+                .took(1)
+                .items(List.of(item("1", 200, false), item("2", 500, true)))));
+
+        service.drainOutbox();
+
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(10L));
+        verify(outboxRepository).incrementAttempts(List.of(11L));
+
+        ArgumentCaptor<Collection<Long>> invalidated = ArgumentCaptor.forClass(Collection.class);
+        verify(similarProductCache).invalidate(invalidated.capture());
+        assertThat(invalidated.getValue()).containsExactly(1L);
+    }
+
+    @Test
+    void drainOutboxSendsOneDeletePerMissingProduct() throws IOException {
+        when(outboxRepository.findByAttemptsLessThanOrderByIdAsc(anyInt(), any()))
+                .thenReturn(List.of(event(10L, 1L), event(11L, 2L)));
+        when(esClient.bulk(any(Function.class))).thenReturn(BulkResponse.of(r -> r
+                .errors(false)
+                .took(1)
+                .items(List.of(item("1", 200, false), item("2", 200, false)))));
+
+        service.drainOutbox();
+
+        ArgumentCaptor<Function<BulkRequest.Builder, ObjectBuilder<BulkRequest>>> request =
+                ArgumentCaptor.forClass(Function.class);
+        verify(esClient).bulk(request.capture());
+        BulkRequest sent = request.getValue().apply(new BulkRequest.Builder()).build();
+        assertThat(sent.operations()).hasSize(2);
+        assertThat(sent.operations()).allMatch(op -> op.isDelete() && op.delete().index().equals("products"));
+
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+        verify(outboxRepository, never()).incrementAttempts(any());
+    }
+
+    @Test
+    void drainOutboxIncrementsAttemptsOfWholeBatchWhenBulkRequestFails() throws IOException {
+        when(outboxRepository.findByAttemptsLessThanOrderByIdAsc(anyInt(), any()))
+                .thenReturn(List.of(event(10L, 1L), event(11L, 2L)));
+        when(esClient.bulk(any(Function.class))).thenThrow(new IOException("connection refused"));
+
+        service.drainOutbox();
+
+        verify(outboxRepository).incrementAttempts(List.of(10L, 11L));
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private static ProductIndexOutbox event(Long id, Long productId) {
+        return ProductIndexOutbox.builder()
+                .id(id)
+                .productId(productId)
+                .attempts(0)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    static BulkResponseItem item(String id, int status, boolean failed) {
+        return BulkResponseItem.of(i -> {
+            i.operationType(OperationType.Index).index("products").id(id).status(status);
+            if (failed) i.error(e -> e.type("test_exception").reason("failed"));
+            return i;
+        });
+    }
+}
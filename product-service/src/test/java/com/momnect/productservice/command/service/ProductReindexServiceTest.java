@@ -0,0 +1,169 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.GetAliasResponse;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesRequest;
+import co.elastic.clients.elasticsearch.indices.get_alias.IndexAliases;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import co.elastic.clients.transport.endpoints.BooleanResponse;
+import co.elastic.clients.util.ObjectBuilder;
+import com.momnect.productservice.command.document.ProductDocument;
+import com.momnect.productservice.command.dto.index.ReindexStatusDTO;
+import com.momnect.productservice.command.entity.product.Product;
+import com.momnect.productservice.command.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.momnect.productservice.command.service.ProductIndexServiceTest.item;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 전체 재색인 (ES 는 mock)
+ * - 기존 인덱스 products_old 를 가리키는 alias 가 있고, DB 에 상품 1~3 이 있는 상태
+ */
+class ProductReindexServiceTest {
+
+    private ElasticsearchClient esClient;
+    private ElasticsearchIndicesClient indices;
+    private ProductRepository productRepository;
+    private ProductIndexService productIndexService;
+    private ProductReindexService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        esClient = mock(ElasticsearchClient.class);
+        indices = mock(ElasticsearchIndicesClient.class);
+        productRepository = mock(ProductRepository.class);
+        productIndexService = mock(ProductIndexService.class);
+        when(esClient.indices()).thenReturn(indices);
+
+        GetAliasResponse aliases = mock(GetAliasResponse.class);
+        when(aliases.result()).thenReturn(Map.of("products_old", mock(IndexAliases.class)));
+        when(indices.existsAlias(any(Function.class))).thenReturn(new BooleanResponse(true));
+        when(indices.getAlias(any(Function.class))).thenReturn(aliases);
+
+        List<Product> products = List.of(product(1L), product(2L), product(3L));
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(products);
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(eq(3L), any())).thenReturn(List.of());
+        when(productIndexService.toDocuments(products)).thenReturn(List.of(doc(1L), doc(2L), doc(3L)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) service.shutdown();
+    }
+
+    @Test
+    void swapsAliasAndReenqueuesFailedDocumentsUnderThreshold() throws Exception {
+        // 1 성공, 2 는 dual write 로 이미 있음(409), 3 은 실패
+        when(esClient.bulk(any(Function.class))).thenReturn(BulkResponse.of(r -> r
+                .errors(true)
+                .took(1)
+                .items(List.of(item("1", 201, false), item("2", 409, true), item("3", 500, true)))));
+        service = newService(100);
+
+        ReindexStatusDTO status = runToEnd();
+
+        assertThat(status.getState()).isEqualTo("COMPLETED");
+        assertThat(status.getIndexedCount()).isEqualTo(3L);
+        assertThat(status.getFailedCount()).isEqualTo(1L);
+
+        ArgumentCaptor<Collection<Long>> reenqueued = ArgumentCaptor.forClass(Collection.class);
+        verify(productIndexService).enqueueAll(reenqueued.capture());
+        assertThat(reenqueued.getValue()).containsExactly(3L);
+
+        // 재적재는 dual write 가 켜져 있는 동안, alias 교체 전에 이뤄져야 함
+        var order = inOrder(productIndexService, indices);
+        order.verify(productIndexService).startDualWrite(status.getIndexName());
+        order.verify(productIndexService).enqueueAll(any());
+        order.verify(indices).updateAliases(any(Function.class));
+        order.verify(productIndexService).stopDualWrite();
+
+        List<Action> actions = sentAliasActions();
+        assertThat(actions).anyMatch(a -> a.isAdd()
+                && a.add().index().equals(status.getIndexName()) && a.add().alias().equals("products"));
+        assertThat(actions).anyMatch(a -> a.isRemoveIndex() && a.removeIndex().index().equals("products_old"));
+    }
+
+    @Test
+    void abortsWithoutSwappingWhenFailuresExceedThreshold() throws Exception {
+        when(esClient.bulk(any(Function.class))).thenReturn(BulkResponse.of(r -> r
+                .errors(true)
+                .took(1)
+                .items(List.of(item("1", 500, true), item("2", 500, true), item("3", 201, false)))));
+        service = newService(1);
+
+        ReindexStatusDTO status = runToEnd();
+
+        assertThat(status.getState()).isEqualTo("FAILED");
+        assertThat(status.getFailedCount()).isEqualTo(2L);
+        verify(indices, never()).updateAliases(any(Function.class));
+        verify(productIndexService, never()).enqueueAll(any());
+        verify(productIndexService).stopDualWrite();
+    }
+
+    @Test
+    void retriesBulkRequestAfterTransportFailure() throws Exception {
+        when(esClient.bulk(any(Function.class)))
+                .thenThrow(new IOException("connection reset"))
+                .thenReturn(BulkResponse.of(r -> r
+                        .errors(false)
+                        .took(1)
+                        .items(List.of(item("1", 201, false), item("2", 201, false), item("3", 201, false)))));
+        service = newService(100);
+
+        ReindexStatusDTO status = runToEnd();
+
+        assertThat(status.getState()).isEqualTo("COMPLETED");
+        verify(esClient, times(2)).bulk(any(Function.class));
+        verify(indices).updateAliases(any(Function.class));
+        verify(productIndexService, never()).enqueueAll(any());
+    }
+
+    // ------------ helpers --------------
+
+    private ProductReindexService newService(int maxFailures) {
+        return new ProductReindexService(esClient, productRepository, productIndexService,
+                mock(SimilarProductCache.class), mock(PlatformTransactionManager.class), 1000, maxFailures);
+    }
+
+    private ReindexStatusDTO runToEnd() throws InterruptedException {
+        service.startFullReindex();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while ("RUNNING".equals(service.getStatus().getState())) {
+            assertThat(System.currentTimeMillis()).as("재색인 종료 대기").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        return service.getStatus();
+    }
+
+    private List<Action> sentAliasActions() throws IOException {
+        ArgumentCaptor<Function<UpdateAliasesRequest.Builder, ObjectBuilder<UpdateAliasesRequest>>> request =
+                ArgumentCaptor.forClass(Function.class);
+        verify(indices).updateAliases(request.capture());
+        return request.getValue().apply(new UpdateAliasesRequest.Builder()).build().actions();
+    }
+
+    private static Product product(Long id) {
+        Product product = mock(Product.class);
+        when(product.getId()).thenReturn(id);
+        return product;
+    }
+
+    private static ProductDocument doc(Long id) {
+        return ProductDocument.builder().id(id).build();
+    }
+}
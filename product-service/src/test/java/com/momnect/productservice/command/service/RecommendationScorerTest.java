@@ -0,0 +1,74 @@
+package com.momnect.productservice.command.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 추천 점수 (application.yml 기본 가중치 기준)
+ */
+class RecommendationScorerTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final RecommendationScorer scorer = new RecommendationScorer(
+            new RecommendationScorer.Weights(0.5, 0.2, 0.3, 72, 500, 50));
+
+    @Test
+    void recencyHalvesAfterHalfLife() {
+        assertThat(scorer.score(NOW, 0, 0, NOW)).isCloseTo(0.5, within(1e-9));
+        assertThat(scorer.score(NOW - 72 * HOUR, 0, 0, NOW)).isCloseTo(0.25, within(1e-9));
+        // 미래 시각은 방금 등록과 같게 처리
+        assertThat(scorer.score(NOW + HOUR, 0, 0, NOW)).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    void viewAndWishlistSignalsSaturate() {
+        assertThat(scorer.score(NOW, 500, 0, NOW)).isCloseTo(0.7, within(1e-9));
+        assertThat(scorer.score(NOW, 1_000_000, 0, NOW)).isCloseTo(0.7, within(1e-9));
+        assertThat(scorer.score(NOW, 0, 50, NOW)).isCloseTo(0.8, within(1e-9));
+        assertThat(scorer.score(NOW, -10, -10, NOW)).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    void ranksCandidatesInPinnedOrder() {
+        // 이름 → {등록 후 경과 시간(h), 조회수, 찜 수}
+        Map<String, long[]> candidates = Map.of(
+                "fresh", new long[]{1, 0, 0},
+                "popular-2-weeks-old", new long[]{24 * 14, 800, 60},
+                "viewed-2-days-old", new long[]{48, 100, 5},
+                "stale-month-old", new long[]{24 * 30, 3, 0},
+                "wishlisted-5-days-old", new long[]{24 * 5, 20, 30});
+
+        List<String> ranked = candidates.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, long[]> e) -> score(e.getValue())).reversed())
+                .map(Map.Entry::getKey)
+                .toList();
+
+        assertThat(ranked).containsExactly(
+                "viewed-2-days-old",
+                "popular-2-weeks-old",
+                "wishlisted-5-days-old",
+                "fresh",
+                "stale-month-old");
+    }
+
+    @Test
+    void rejectsNonPositiveNormalizers() {
+        assertThatThrownBy(() -> new RecommendationScorer.Weights(0.5, 0.2, 0.3, 0, 500, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RecommendationScorer.Weights(0.5, 0.2, 0.3, 72, 0, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private double score(long[] c) {
+        return scorer.score(NOW - c[0] * HOUR, c[1], c[2], NOW);
+    }
+}
@@ -0,0 +1,17 @@
+package com.momnect.userservice.command.client;
+
+import com.momnect.userservice.common.ApiResponse;
+import com.momnect.userservice.config.FeignClientConfig;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@FeignClient(name = "chat-service", configuration = FeignClientConfig.class)
+public interface ChatClient {
+
+    // 채팅 서비스 사용자 기본 정보 캐시 무효화 (닉네임/프로필 이미지 변경, 탈퇴 시)
+    @DeleteMapping("/internal/cache/users")
+    ApiResponse<Void> evictUsers(@RequestParam("userIds") List<Long> userIds);
+}
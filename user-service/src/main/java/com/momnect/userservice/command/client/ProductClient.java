@@ -42,4 +42,8 @@ public interface ProductClient {
     @GetMapping("/trades/users/{sellerId}/sales")
     ApiResponse<List<ProductSummaryDTO>> getOtherUserSales(@PathVariable("sellerId") Long sellerId);
 
+    // 추천용 자녀 연령대 캐시 삭제 (로그인 사용자)
+    @DeleteMapping("/products/recommendations/age-buckets/me")
+    ApiResponse<Void> evictMyAgeBuckets();
+
 }
@@ -37,6 +37,15 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(userInfo));
     }
 
+    /**
+     * 여러 사용자 기본 정보 일괄 조회 (닉네임, 이미지만)
+     */
+    @GetMapping("/basic")
+    public ResponseEntity<ApiResponse<List<PublicUserDTO>>> getBasicInfos(@RequestParam List<Long> userIds) {
+        List<PublicUserDTO> userInfos = userService.getPublicUserBasics(userIds);
+        return ResponseEntity.ok(ApiResponse.success(userInfos));
+    }
+
     /**
      * 사용자 존재 여부 확인
      */
@@ -1,5 +1,6 @@
 package com.momnect.userservice.command.service;
 
+import com.momnect.userservice.command.client.ProductClient;
 import com.momnect.userservice.command.dto.child.ChildDTO;
 import com.momnect.userservice.command.dto.child.CreateChildRequest;
 import com.momnect.userservice.command.dto.child.UpdateChildRequest;
@@ -10,6 +11,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -23,6 +26,7 @@ import java.util.stream.Collectors;
 public class ChildService {
 
     private final ChildRepository childRepository;
+    private final ProductClient productClient;
     private static final int MAX_CHILDREN = 2; // 최대 자녀 수 제한
 
     /**
@@ -41,6 +45,8 @@ public class ChildService {
         Child child = buildChildFromRequest(userId, request);
         Child savedChild = childRepository.save(child);
 
+        evictRecommendationAgeBuckets();
+
         log.info("자녀 등록 완료: childId={}", savedChild.getId());
         return toChildDTO(savedChild);
     }
@@ -76,6 +82,8 @@ public class ChildService {
         updateChildInfo(child, request);
         Child savedChild = childRepository.save(child);
 
+        evictRecommendationAgeBuckets();
+
         log.info("자녀 수정 완료: childId={}", childId);
         return toChildDTO(savedChild);
     }
@@ -91,10 +99,35 @@ public class ChildService {
                 .orElseThrow(() -> new UserNotFoundException("자녀 정보를 찾을 수 없습니다"));
 
         childRepository.delete(child);
+        evictRecommendationAgeBuckets();
 
         log.info("자녀 삭제 완료: childId={}", childId);
     }
 
+    /**
+     * 상품 서비스 추천용 자녀 연령대 캐시 삭제 (커밋 이후, 실패해도 자녀 변경은 유지)
+     */
+    private void evictRecommendationAgeBuckets() {
+        Runnable evict = () -> {
+            try {
+                productClient.evictMyAgeBuckets();
+            } catch (Exception e) {
+                log.warn("추천 연령대 캐시 삭제 실패 (TTL 만료 후 반영): {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
     /**
      * 자녀 등록 요청 검증
      */
@@ -1,5 +1,6 @@
 package com.momnect.userservice.command.service;
 
+import com.momnect.userservice.command.client.ChatClient;
 import com.momnect.userservice.command.client.FileClient;
 import com.momnect.userservice.command.client.ProductClient;
 import com.momnect.userservice.command.client.ReviewClient;
@@ -27,6 +28,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -46,6 +49,7 @@ public class UserService {
     private final ProductClient productClient;
     private final ReviewClient reviewClient;
     private final FileClient fileClient;
+    private final ChatClient chatClient;
 
     @Value("${ftp.file-server-url}")
     private String fileServerUrl;
@@ -57,6 +61,8 @@ public class UserService {
             "/2/1756892288790_890b317f-320a-4a55-b590-f66f81dbe794.png"
     );
 
+    private static final int MAX_BASIC_BATCH_SIZE = 100;
+
     /**
      * 마이페이지 대시보드 정보 조회
      */
@@ -213,6 +219,7 @@ public class UserService {
 
         user.setUpdatedBy(userId);
         User savedUser = userRepository.save(user);
+        evictChatUserCache(userId);
 
         return userMapper.toUserDTO(savedUser);
     }
@@ -270,6 +277,7 @@ public class UserService {
         user.setUpdatedBy(userId);
 
         userRepository.save(user);
+        evictChatUserCache(userId);
     }
 
     /**
@@ -285,11 +293,7 @@ public class UserService {
         }
 
         // 프로필 이미지가 없는 경우 기본 이미지 URL을 설정
-        String profileImageUrl = user.getProfileImageUrl();
-        if (profileImageUrl == null || profileImageUrl.isEmpty()) {
-            int index = (int) (userId %  DEFAULT_PROFILE_IMAGE_PATHS.size());
-            profileImageUrl = fileServerUrl + DEFAULT_PROFILE_IMAGE_PATHS.get(index);
-        }
+        String profileImageUrl = profileImageUrlOf(user);
 
         // 거래지역 조회
         List<String> tradeLocations = Collections.emptyList();
@@ -311,6 +315,28 @@ public class UserService {
                 .build();
     }
 
+    /**
+     * 여러 사용자 기본 정보 일괄 조회 (닉네임, 이미지만 / 없는 사용자·탈퇴 사용자 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<PublicUserDTO> getPublicUserBasics(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (userIds.size() > MAX_BASIC_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + MAX_BASIC_BATCH_SIZE + "명입니다.");
+        }
+
+        return userRepository.findAllById(userIds.stream().distinct().toList()).stream()
+                .filter(user -> !Boolean.TRUE.equals(user.getIsDeleted()))
+                .map(user -> PublicUserDTO.builder()
+                        .id(user.getId())
+                        .nickname(user.getNickname())
+                        .profileImageUrl(profileImageUrlOf(user))
+                        .build())
+                .toList();
+    }
+
     /**
      * 타 사용자 프로필 페이지 정보 조회 (통합)
      */
@@ -394,4 +420,38 @@ public class UserService {
 
         return userMapper.toUserDTO(user);
     }
-}
\ No newline at end of file
+
+    /**
+     * 채팅 서비스 사용자 기본 정보 캐시 삭제 (커밋 이후, 실패해도 변경은 유지)
+     */
+    private void evictChatUserCache(Long userId) {
+        Runnable evict = () -> {
+            try {
+                chatClient.evictUsers(List.of(userId));
+            } catch (Exception e) {
+                log.warn("채팅 사용자 캐시 삭제 실패 (TTL 만료 후 반영): {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    // 프로필 이미지가 없으면 userId 기준 기본 이미지
+    private String profileImageUrlOf(User user) {
+        String profileImageUrl = user.getProfileImageUrl();
+        if (profileImageUrl == null || profileImageUrl.isEmpty()) {
+            int index = (int) (user.getId() % DEFAULT_PROFILE_IMAGE_PATHS.size());
+            profileImageUrl = fileServerUrl + DEFAULT_PROFILE_IMAGE_PATHS.get(index);
+        }
+        return profileImageUrl;
+    }
+}